@@ -0,0 +1,9 @@
+package org.pucodehackathon.backend.admin.audit;
+
+public enum AdminAuditAction {
+    VENDOR_APPROVED,
+    VENDOR_REJECTED,
+    VENDOR_SUSPENDED,
+    VENDOR_ACTIVATED,
+    VENDOR_DEACTIVATED
+}
@@ -0,0 +1,186 @@
+package org.pucodehackathon.backend.admin.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.pucodehackathon.backend.helper.UserPrincipal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind admin audit log. Actions are queued once the admin's
+ * transaction commits and group-committed to admin_audit_log in JDBC batches,
+ * so an admin write never waits on the audit insert. The trade-off is that a
+ * crash loses at most one flush interval of entries. The queue is capped at
+ * max-queued entries; while the database is unreachable, entries past the cap
+ * are dropped and counted rather than growing the heap.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdminAuditLog {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO admin_audit_log
+                (audit_id, ts, actor_id, actor_email, action, target_type, target_id, reason)
+            VALUES (UUID_TO_BIN(?), ?, UUID_TO_BIN(?), ?, ?, ?, UUID_TO_BIN(?), ?)
+            """;
+
+    private static final int MAX_REASON_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.admin.audit.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.admin.audit.max-queued:100000}")
+    private int maxQueued;
+
+    private final ConcurrentLinkedQueue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger droppedSinceFlush = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private Counter dropped;
+
+    private record Entry(
+            UUID auditId,
+            LocalDateTime ts,
+            UUID actorId,
+            String actorEmail,
+            AdminAuditAction action,
+            String targetType,
+            UUID targetId,
+            String reason
+    ) {
+    }
+
+    @PostConstruct
+    void init() {
+        meterRegistry.gauge("admin.audit.queued", queued);
+        dropped = meterRegistry.counter("admin.audit.dropped");
+    }
+
+    // Actor is the authenticated admin; the entry is dropped if the surrounding transaction rolls back
+    public void record(AdminAuditAction action, String targetType, UUID targetId, String reason) {
+        UserPrincipal actor = currentActor();
+        Entry entry = new Entry(
+                UUID.randomUUID(),
+                LocalDateTime.now(),
+                actor != null ? actor.getUser().getId() : null,
+                actor != null ? actor.getUsername() : null,
+                action,
+                targetType,
+                targetId,
+                reason != null && reason.length() > MAX_REASON_LENGTH ? reason.substring(0, MAX_REASON_LENGTH) : reason
+        );
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(entry);
+                }
+            });
+        } else {
+            enqueue(entry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.admin.audit.flush-ms:500}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            int lost = droppedSinceFlush.getAndSet(0);
+            if (lost > 0) {
+                log.warn("Admin audit queue was full, dropped {} entries", lost);
+            }
+            List<Entry> batch;
+            do {
+                batch = drain();
+                if (!batch.isEmpty() && !write(batch)) {
+                    return;
+                }
+            } while (batch.size() == batchSize);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    // Reserves a slot first so concurrent writers cannot overshoot the cap
+    private void enqueue(Entry entry) {
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            droppedSinceFlush.incrementAndGet();
+            dropped.increment();
+            return;
+        }
+        queue.add(entry);
+    }
+
+    private List<Entry> drain() {
+        List<Entry> batch = new ArrayList<>();
+        for (Entry entry; batch.size() < batchSize && (entry = queue.poll()) != null; ) {
+            batch.add(entry);
+        }
+        queued.addAndGet(-batch.size());
+        return batch;
+    }
+
+    // One transaction per batch: a single commit, and so a single log flush, for all of its rows
+    private boolean write(List<Entry> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> {
+                        ps.setString(1, entry.auditId().toString());
+                        ps.setTimestamp(2, Timestamp.valueOf(entry.ts()));
+                        ps.setString(3, entry.actorId() != null ? entry.actorId().toString() : null);
+                        ps.setString(4, entry.actorEmail());
+                        ps.setString(5, entry.action().name());
+                        ps.setString(6, entry.targetType());
+                        ps.setString(7, entry.targetId().toString());
+                        ps.setString(8, entry.reason());
+                    }));
+            return true;
+        } catch (DataAccessException ex) {
+            log.error("Admin audit flush failed for {} entries, retrying next tick", batch.size(), ex);
+            // Entries carry their own ids and timestamps, so a retry in a different order is harmless
+            batch.forEach(this::enqueue);
+            return false;
+        }
+    }
+
+    private static UserPrincipal currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal
+                ? principal
+                : null;
+    }
+}
@@ -0,0 +1,94 @@
+package org.pucodehackathon.backend.admin.audit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps admin_audit_log partitioned by month. Partitions for the current and
+ * the next few months are split off the catch-all p_max before any row can
+ * land in them, so the split never has to move data; months past the
+ * retention window are dropped whole when retention is configured.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditPartitionMaintainer {
+
+    private static final String PARTITIONS_SQL = """
+            SELECT partition_name FROM information_schema.partitions
+            WHERE table_schema = DATABASE() AND table_name = 'admin_audit_log' AND partition_name IS NOT NULL
+            """;
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.admin.audit.partitions-ahead:3}")
+    private int monthsAhead;
+
+    // 0 keeps every month
+    @Value("${app.admin.audit.retention-months:0}")
+    private int retentionMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${app.admin.audit.partition-cron:0 0 3 * * *}")
+    public void maintain() {
+        try {
+            Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(PARTITIONS_SQL, String.class));
+            if (existing.isEmpty()) {
+                log.warn("admin_audit_log is missing or not partitioned, skipping partition maintenance");
+                return;
+            }
+            YearMonth current = YearMonth.now();
+            for (int i = 0; i <= monthsAhead; i++) {
+                YearMonth month = current.plusMonths(i);
+                String name = month.format(PARTITION_NAME);
+                if (!existing.contains(name)) {
+                    split(name, month.plusMonths(1).atDay(1));
+                    existing.add(name);
+                }
+            }
+            if (retentionMonths > 0) {
+                dropBefore(existing, current.minusMonths(retentionMonths));
+            }
+        } catch (RuntimeException ex) {
+            log.error("Admin audit partition maintenance failed", ex);
+        }
+    }
+
+    private void split(String name, LocalDate lessThan) {
+        jdbcTemplate.execute("ALTER TABLE admin_audit_log REORGANIZE PARTITION p_max INTO ("
+                + "PARTITION " + name + " VALUES LESS THAN (TO_DAYS('" + lessThan + "')), "
+                + "PARTITION p_max VALUES LESS THAN MAXVALUE)");
+        log.info("Created admin audit partition {}", name);
+    }
+
+    private void dropBefore(Set<String> existing, YearMonth oldestKept) {
+        String oldestName = oldestKept.format(PARTITION_NAME);
+        List<String> expired = existing.stream()
+                .filter(name -> name.matches("p\\d{6}") && name.compareTo(oldestName) < 0)
+                .sorted()
+                .toList();
+        for (String name : expired) {
+            jdbcTemplate.execute("ALTER TABLE admin_audit_log DROP PARTITION " + name);
+            log.info("Dropped expired admin audit partition {}", name);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.pucodehackathon.backend.admin.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.pucodehackathon.backend.vendor.model.VerificationStatus;
+import org.pucodehackathon.backend.vendor.repositories.VendorRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Vendor counts per (verification status, active) pair for the admin list, so
+ * a page never pays for COUNT(*). Status changes adjust the counters after
+ * commit; a periodic recount from the table corrects any drift, e.g. from
+ * changes made by another instance. Counts are approximate between recounts.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdminVendorCountCache {
+
+    private static final VerificationStatus[] STATUSES = VerificationStatus.values();
+
+    private final VendorRepository vendorRepository;
+
+    private volatile AtomicLongArray counts = new AtomicLongArray(STATUSES.length * 2);
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        recount();
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.admin.vendor-counts.recount-ms:600000}",
+            fixedDelayString = "${app.admin.vendor-counts.recount-ms:600000}"
+    )
+    public void recount() {
+        try {
+            AtomicLongArray next = new AtomicLongArray(STATUSES.length * 2);
+            for (Object[] row : vendorRepository.countByStatusAndActive()) {
+                if (row[0] instanceof VerificationStatus status) {
+                    next.addAndGet(slot(status, Boolean.TRUE.equals(row[1])), ((Number) row[2]).longValue());
+                }
+            }
+            // Changes committed during the recount may be lost until the next one; that is the approximation
+            counts = next;
+            ready = true;
+        } catch (RuntimeException ex) {
+            log.error("Admin vendor recount failed, keeping the previous counts", ex);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Null status or active means "any"
+    public long count(VerificationStatus status, Boolean active) {
+        AtomicLongArray current = counts;
+        long total = 0;
+        for (VerificationStatus candidate : STATUSES) {
+            if (status != null && status != candidate) {
+                continue;
+            }
+            if (active == null || active) {
+                total += current.get(slot(candidate, true));
+            }
+            if (active == null || !active) {
+                total += current.get(slot(candidate, false));
+            }
+        }
+        return Math.max(total, 0);
+    }
+
+    public void added(VerificationStatus status, Boolean active) {
+        afterCommit(() -> counts.incrementAndGet(slot(status, Boolean.TRUE.equals(active))));
+    }
+
+    public void moved(VerificationStatus fromStatus, Boolean fromActive, VerificationStatus toStatus, Boolean toActive) {
+        int from = slot(fromStatus, Boolean.TRUE.equals(fromActive));
+        int to = slot(toStatus, Boolean.TRUE.equals(toActive));
+        if (from == to) {
+            return;
+        }
+        afterCommit(() -> {
+            AtomicLongArray current = counts;
+            current.decrementAndGet(from);
+            current.incrementAndGet(to);
+        });
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    private static int slot(VerificationStatus status, boolean active) {
+        return status.ordinal() * 2 + (active ? 1 : 0);
+    }
+}
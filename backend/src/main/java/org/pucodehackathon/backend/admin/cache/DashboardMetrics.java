@@ -0,0 +1,415 @@
+package org.pucodehackathon.backend.admin.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.pucodehackathon.backend.order.model.Order;
+import org.pucodehackathon.backend.order.model.OrderStatus;
+import org.pucodehackathon.backend.vendor.model.VendorLocation;
+import org.pucodehackathon.backend.vendor.repositories.VendorLocationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admin dashboard counters fed by order and vendor lifecycle transitions, so
+ * the dashboard never scans orders or vendor. Transitions land in LongAdders
+ * after commit; a flush adds the accumulated deltas to dashboard_snapshot and
+ * reloads the totals, which keeps several instances and restarts consistent
+ * and loses at most one flush interval on a crash. Each flush is one
+ * transaction, so a failed flush can be retried without double counting.
+ * Status totals are absolute rather than cumulative; they are counted from
+ * orders on the first start and otherwise only recounted when an admin asks
+ * for it, or at startup when reconcile-on-startup is set. Day keys use the
+ * vendor schedule zone, so they roll over with the business day on every
+ * instance.
+ *
+ * Keys: status.&lt;STATUS&gt;.count|gmv (orders currently in that status),
+ * day.&lt;date&gt;.&lt;event&gt;.count|gmv and city.&lt;city&gt;.&lt;event&gt;.count|gmv.
+ * GMV is kept in minor units.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardMetrics {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO dashboard_snapshot (metric_key, metric_value, updated_at)
+            VALUES (?, ?, ?) AS delta
+            ON DUPLICATE KEY UPDATE
+                metric_value = dashboard_snapshot.metric_value + delta.metric_value,
+                updated_at = delta.updated_at
+            """;
+
+    private static final String SET_SQL = """
+            INSERT INTO dashboard_snapshot (metric_key, metric_value, updated_at)
+            VALUES (?, ?, ?) AS counted
+            ON DUPLICATE KEY UPDATE
+                metric_value = counted.metric_value,
+                updated_at = counted.updated_at
+            """;
+
+    private static final String SEED_SQL = """
+            INSERT IGNORE INTO dashboard_snapshot (metric_key, metric_value, updated_at)
+            VALUES (?, ?, ?)
+            """;
+
+    private static final String COUNT_STATUS_SQL = """
+            SELECT status, COUNT(*) AS orders, COALESCE(SUM(total_amount), 0) AS gmv
+            FROM orders
+            GROUP BY status
+            """;
+
+    private static final String SEED_DAYS_SQL = """
+            SELECT DATE(created_at) AS day, COUNT(*) AS orders, COALESCE(SUM(total_amount), 0) AS gmv
+            FROM orders
+            WHERE created_at >= ?
+            GROUP BY DATE(created_at)
+            """;
+
+    private static final String LOAD_SQL = "SELECT metric_key, metric_value FROM dashboard_snapshot";
+
+    private static final String PRUNE_SQL = """
+            DELETE FROM dashboard_snapshot
+            WHERE metric_key LIKE 'day.%' AND metric_key < ?
+            """;
+
+    public static final String PLACED = "placed";
+    public static final String COMPLETED = "completed";
+    public static final String REJECTED = "rejected";
+    public static final String VENDORS_APPROVED = "vendors_approved";
+    public static final String VENDORS_SUSPENDED = "vendors_suspended";
+
+    private static final String UNKNOWN_CITY = "unknown";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final VendorLocationRepository locationRepository;
+
+    @Value("${app.admin.dashboard.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${app.admin.dashboard.reconcile-on-startup:false}")
+    private boolean reconcileOnStartup;
+
+    @Value("${app.vendor.schedule.zone:Asia/Kolkata}")
+    private String zoneId;
+
+    private ZoneId zone;
+
+    private final ConcurrentHashMap<String, LongAdder> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, String> vendorCities = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private volatile Map<String, Long> totals = Map.of();
+
+    @PostConstruct
+    void init() {
+        zone = ZoneId.of(zoneId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            if (seedIfEmpty() || reconcileOnStartup) {
+                reconcileStatuses();
+            } else {
+                reload();
+            }
+            log.info("Dashboard metrics loaded with {} counters", totals.size());
+        } catch (RuntimeException ex) {
+            log.error("Dashboard metrics load failed, counting from zero until the next flush", ex);
+        }
+    }
+
+    public void orderPlaced(Order order) {
+        long gmv = minorUnits(order.getTotalAmount());
+        String city = cityOf(order.getVendor().getVendorId());
+        afterCommit(() -> {
+            add("status." + OrderStatus.PLACED + ".count", 1);
+            add("status." + OrderStatus.PLACED + ".gmv", gmv);
+            event(PLACED, city, gmv);
+        });
+    }
+
+    public void orderMoved(Order order, OrderStatus from) {
+        OrderStatus to = order.getStatus();
+        long gmv = minorUnits(order.getTotalAmount());
+        String city = to == OrderStatus.COMPLETED || to == OrderStatus.REJECTED
+                ? cityOf(order.getVendor().getVendorId())
+                : null;
+        afterCommit(() -> {
+            add("status." + from + ".count", -1);
+            add("status." + from + ".gmv", -gmv);
+            add("status." + to + ".count", 1);
+            add("status." + to + ".gmv", gmv);
+            if (to == OrderStatus.COMPLETED) {
+                event(COMPLETED, city, gmv);
+            } else if (to == OrderStatus.REJECTED) {
+                event(REJECTED, city, gmv);
+            }
+        });
+    }
+
+    public void vendorApproved() {
+        afterCommit(() -> add(dayKey(today(), VENDORS_APPROVED, "count"), 1));
+    }
+
+    public void vendorSuspended() {
+        afterCommit(() -> add(dayKey(today(), VENDORS_SUSPENDED, "count"), 1));
+    }
+
+    // Next order for the vendor looks its city up again
+    public void vendorLocationChanged(UUID vendorId) {
+        afterCommit(() -> vendorCities.remove(vendorId));
+    }
+
+    // Persisted total plus what this instance has not flushed yet
+    public long get(String key) {
+        LongAdder local = pending.get(key);
+        return totals.getOrDefault(key, 0L) + (local != null ? local.sum() : 0L);
+    }
+
+    // Distinct values of the second key segment under a prefix, e.g. the cities under "city.",
+    // including keys that have only been counted locally so far
+    public List<String> segments(String prefix) {
+        Set<String> segments = new LinkedHashSet<>();
+        collectSegments(totals.keySet(), prefix, segments);
+        collectSegments(pending.keySet(), prefix, segments);
+        return new ArrayList<>(segments);
+    }
+
+    // The day the day.* keys are currently counting
+    public LocalDate today() {
+        return LocalDate.now(zone);
+    }
+
+    public static String dayKey(LocalDate day, String event, String measure) {
+        return "day." + day + "." + event + "." + measure;
+    }
+
+    public static String cityKey(String city, String event, String measure) {
+        return "city." + city + "." + event + "." + measure;
+    }
+
+    @Scheduled(fixedDelayString = "${app.admin.dashboard.flush-ms:10000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            if (flushPending()) {
+                reload();
+            }
+        } catch (RuntimeException ex) {
+            log.error("Dashboard totals reload failed, keeping the previous totals", ex);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Overwrites the status totals with a count of orders, and forgets cached
+     * vendor cities. This scans orders, so it runs on the first start, at
+     * startup when reconcile-on-startup is set, and on an admin request only.
+     * Local status deltas are dropped right before the count rather than
+     * flushed ahead of it, since every transition committed by then is already
+     * in the count. Deltas another instance flushes after the count are counted
+     * twice until the next reconcile.
+     */
+    public void reconcileStatuses() {
+        flushLock.lock();
+        Map<String, Long> dropped = new HashMap<>();
+        try {
+            Map<String, Long> counted = new HashMap<>();
+            for (OrderStatus status : OrderStatus.values()) {
+                counted.put("status." + status + ".count", 0L);
+                counted.put("status." + status + ".gmv", 0L);
+            }
+            pending.forEach((key, adder) -> {
+                if (key.startsWith("status.")) {
+                    dropped.put(key, adder.sumThenReset());
+                }
+            });
+            jdbcTemplate.query(COUNT_STATUS_SQL, rs -> {
+                String status = rs.getString("status");
+                counted.put("status." + status + ".count", rs.getLong("orders"));
+                counted.put("status." + status + ".gmv", minorUnits(rs.getBigDecimal("gmv")));
+            });
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(SET_SQL, counted.entrySet().stream()
+                    .map(entry -> new Object[]{entry.getKey(), entry.getValue(), now})
+                    .toList());
+            dropped.clear();
+            vendorCities.clear();
+            if (flushPending()) {
+                reload();
+            }
+        } catch (RuntimeException ex) {
+            // The count was not written, so the dropped deltas still apply
+            dropped.forEach(this::add);
+            log.error("Dashboard status reconcile failed, keeping the previous totals", ex);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.admin.dashboard.prune-ms:3600000}")
+    public void pruneDays() {
+        // ISO dates sort as strings, so one range delete drops every key of every expired day
+        int deleted = jdbcTemplate.update(PRUNE_SQL, "day." + today().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("Pruned {} expired dashboard day counters", deleted);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    // All deltas go in one transaction: either every counter moved or none did and they are re-queued
+    private boolean flushPending() {
+        Map<String, Long> deltas = new HashMap<>();
+        pending.forEach((key, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(key, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return true;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT_SQL,
+                    deltas.entrySet().stream()
+                            .map(entry -> new Object[]{entry.getKey(), entry.getValue(), now})
+                            .toList()));
+            return true;
+        } catch (DataAccessException | TransactionException ex) {
+            log.error("Dashboard flush failed for {} counters, retrying next tick", deltas.size(), ex);
+            deltas.forEach(this::add);
+            return false;
+        }
+    }
+
+    private void reload() {
+        Map<String, Long> next = new HashMap<>();
+        jdbcTemplate.query(LOAD_SQL, rs -> {
+            next.put(rs.getString("metric_key"), rs.getLong("metric_value"));
+        });
+        totals = Map.copyOf(next);
+    }
+
+    // First start only: recent placed days from orders. INSERT IGNORE lets racing instances seed once;
+    // status totals come from reconcileStatuses(), which load() runs when this returns true
+    private boolean seedIfEmpty() {
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM dashboard_snapshot", Integer.class);
+        if (rows != null && rows > 0) {
+            return false;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> seed = new ArrayList<>();
+        jdbcTemplate.query(SEED_DAYS_SQL, rs -> {
+            LocalDate day = rs.getDate("day").toLocalDate();
+            seed.add(new Object[]{dayKey(day, PLACED, "count"), rs.getLong("orders"), now});
+            seed.add(new Object[]{dayKey(day, PLACED, "gmv"), minorUnits(rs.getBigDecimal("gmv")), now});
+        }, Timestamp.valueOf(today().minusDays(retentionDays).atStartOfDay()));
+        if (!seed.isEmpty()) {
+            jdbcTemplate.batchUpdate(SEED_SQL, seed);
+            log.info("Seeded {} dashboard counters from orders", seed.size());
+        }
+        return true;
+    }
+
+    private void event(String event, String city, long gmv) {
+        LocalDate today = today();
+        add(dayKey(today, event, "count"), 1);
+        add(dayKey(today, event, "gmv"), gmv);
+        add(cityKey(city, event, "count"), 1);
+        add(cityKey(city, event, "gmv"), gmv);
+    }
+
+    private static void collectSegments(Set<String> keys, String prefix, Set<String> segments) {
+        for (String key : keys) {
+            int end = key.indexOf('.', prefix.length());
+            if (key.startsWith(prefix) && end > prefix.length()) {
+                segments.add(key.substring(prefix.length(), end));
+            }
+        }
+    }
+
+    private void add(String key, long delta) {
+        pending.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+    }
+
+    // Looked up once per vendor; read inside the caller's transaction, before commit. The query
+    // runs outside the map so it never blocks other vendors' lookups on the same bin
+    private String cityOf(UUID vendorId) {
+        String cached = vendorCities.get(vendorId);
+        if (cached != null) {
+            return cached;
+        }
+        String city = loadCity(vendorId);
+        String raced = vendorCities.putIfAbsent(vendorId, city);
+        return raced != null ? raced : city;
+    }
+
+    private String loadCity(UUID vendorId) {
+        String fallback = UNKNOWN_CITY;
+        for (VendorLocation location : locationRepository.findByVendor_VendorId(vendorId)) {
+            if (location.getCity() == null || location.getCity().isBlank()) {
+                continue;
+            }
+            // Dots separate key segments
+            String city = location.getCity().trim().replace('.', ' ');
+            if (Boolean.TRUE.equals(location.getIsPrimary())) {
+                return city;
+            }
+            fallback = city;
+        }
+        return fallback;
+    }
+
+    private static long minorUnits(BigDecimal amount) {
+        return amount == null ? 0 : amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue();
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+}
@@ -1,9 +1,42 @@
 package org.pucodehackathon.backend.admin.controller;
 
+import lombok.RequiredArgsConstructor;
+import org.pucodehackathon.backend.admin.audit.AdminAuditAction;
+import org.pucodehackathon.backend.admin.dto.AdminAuditEntryDto;
+import org.pucodehackathon.backend.admin.service.AdminAuditService;
+import org.pucodehackathon.backend.helper.CursorPage;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/admin/audit")
+@RequiredArgsConstructor
 @PreAuthorize("hasRole('ADMIN')")
-@RequestMapping("/api/v1/admin/...")
 public class AdminAuditController {
+
+    private final AdminAuditService adminAuditService;
+
+    // Newest first; every filter is optional, from is inclusive and to exclusive
+    @GetMapping
+    public ResponseEntity<CursorPage<AdminAuditEntryDto>> getAuditLog(
+            @RequestParam(required = false) UUID targetId,
+            @RequestParam(required = false) UUID actorId,
+            @RequestParam(required = false) AdminAuditAction action,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(
+                adminAuditService.search(targetId, actorId, action, from, to, cursor, size)
+        );
+    }
 }
@@ -1,4 +1,36 @@
 package org.pucodehackathon.backend.admin.controller;
 
+import lombok.RequiredArgsConstructor;
+import org.pucodehackathon.backend.admin.dto.AdminDashboardResponseDto;
+import org.pucodehackathon.backend.admin.service.AdminDashboardService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/dashboard")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
 public class AdminDashboardController {
+
+    private final AdminDashboardService adminDashboardService;
+
+    // Order and vendor totals plus the last `days` days and per-city figures
+    @GetMapping
+    public ResponseEntity<AdminDashboardResponseDto> getDashboard(
+            @RequestParam(defaultValue = "7") int days
+    ) {
+        return ResponseEntity.ok(adminDashboardService.getDashboard(days));
+    }
+
+    // Repairs drifted status totals; the dashboard itself never counts orders
+    @PostMapping("/reconcile")
+    public ResponseEntity<Void> reconcile() {
+        adminDashboardService.reconcile();
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -1,4 +1,40 @@
 package org.pucodehackathon.backend.admin.controller;
 
+import lombok.RequiredArgsConstructor;
+import org.pucodehackathon.backend.admin.dto.AdminDensityTileDto;
+import org.pucodehackathon.backend.admin.service.AdminLocationService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/api/v1/admin/locations")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
 public class AdminLocationController {
+
+    private final AdminLocationService adminLocationService;
+
+    // Vendor density for one slippy-map tile; unchanged tiles answer If-None-Match with 304
+    @GetMapping("/density/{z}/{x}/{y}")
+    public ResponseEntity<AdminDensityTileDto> getDensityTile(
+            @PathVariable int z,
+            @PathVariable long x,
+            @PathVariable long y,
+            WebRequest request
+    ) {
+        String etag = adminLocationService.densityTileEtag(z, x, y);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(adminLocationService.getDensityTile(z, x, y));
+    }
 }
@@ -72,6 +72,7 @@ import org.pucodehackathon.backend.admin.dto.AdminVendorListResponseDto;
 import org.pucodehackathon.backend.admin.service.impl.AdminVendorQueryServiceImpl;
 import org.pucodehackathon.backend.admin.service.impl.AdminVendorServiceImpl;
 import org.pucodehackathon.backend.vendor.dto.VendorRejectionRequestDto;
+import org.pucodehackathon.backend.vendor.model.VerificationStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -108,15 +109,17 @@ public class AdminVendorController {
         return ResponseEntity.ok(adminVendorService.getVendorDetails(vendorId));
     }
 
+    // Newest first; pass nextCursor back as cursor for the next page. exactCount=true runs a COUNT(*)
     @GetMapping
     public ResponseEntity<AdminVendorListPageResponseDto> getAllVendors(
-            @RequestParam(required = false) String status,
+            @RequestParam(required = false) VerificationStatus status,
             @RequestParam(required = false) Boolean active,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean exactCount
     ) {
         return ResponseEntity.ok(
-                adminVendorQueryService.getAllVendors(status, active, page, size)
+                adminVendorQueryService.getAllVendors(status, active, cursor, size, exactCount)
         );
     }
 }
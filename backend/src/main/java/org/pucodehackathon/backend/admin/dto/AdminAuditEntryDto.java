@@ -0,0 +1,22 @@
+package org.pucodehackathon.backend.admin.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+public class AdminAuditEntryDto {
+    private UUID auditId;
+    private LocalDateTime timestamp;
+
+    private UUID actorId;
+    private String actorEmail;
+
+    private String action;
+    private String targetType;
+    private UUID targetId;
+    private String reason;
+}
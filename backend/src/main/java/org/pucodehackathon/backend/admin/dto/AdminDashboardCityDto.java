@@ -0,0 +1,18 @@
+package org.pucodehackathon.backend.admin.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+public class AdminDashboardCityDto {
+    private String city;
+
+    private long ordersPlaced;
+    private BigDecimal placedGmv;
+    private long ordersCompleted;
+    private BigDecimal completedGmv;
+    private long ordersRejected;
+}
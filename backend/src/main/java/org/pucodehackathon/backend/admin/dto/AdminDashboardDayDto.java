@@ -0,0 +1,22 @@
+package org.pucodehackathon.backend.admin.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+public class AdminDashboardDayDto {
+    private LocalDate date;
+
+    private long ordersPlaced;
+    private BigDecimal placedGmv;
+    private long ordersCompleted;
+    private BigDecimal completedGmv;
+    private long ordersRejected;
+
+    private long vendorsApproved;
+    private long vendorsSuspended;
+}
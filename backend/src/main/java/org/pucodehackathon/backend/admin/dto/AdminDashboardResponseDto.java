@@ -0,0 +1,24 @@
+package org.pucodehackathon.backend.admin.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+public class AdminDashboardResponseDto {
+
+    // Orders currently in each status and their value
+    private Map<String, Long> ordersByStatus;
+    private Map<String, BigDecimal> gmvByStatus;
+
+    private Map<String, Long> vendorsByStatus;
+    private long activeVendors;
+
+    // Newest day first
+    private List<AdminDashboardDayDto> days;
+    private List<AdminDashboardCityDto> cities;
+}
@@ -0,0 +1,23 @@
+package org.pucodehackathon.backend.admin.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class AdminDensityTileDto {
+    private int z;
+    private long x;
+    private long y;
+
+    private int total;
+    private int live;
+    private int fixed;
+    private int mobile;
+
+    // Non-empty sub-tiles at binZoom, each [x, y, fixed offline, fixed live, mobile offline, mobile live]
+    private int binZoom;
+    private List<long[]> bins;
+}
@@ -11,8 +11,10 @@ public class AdminVendorListPageResponseDto {
 
     private List<AdminVendorListResponseDto> vendors;
 
-    private int page;
-    private int size;
+    private String nextCursor;
+    private boolean hasMore;
+
+    // Approximate unless countExact is true
     private long totalElements;
-    private int totalPages;
-}
\ No newline at end of file
+    private boolean countExact;
+}
@@ -0,0 +1,27 @@
+package org.pucodehackathon.backend.admin.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// One row per dashboard counter; written by DashboardMetrics with JDBC upserts
+@Entity
+@Table(name = "dashboard_snapshot")
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DashboardSnapshot {
+
+    @Id
+    @Column(name = "metric_key", length = 191)
+    private String metricKey;
+
+    @Column(name = "metric_value", nullable = false)
+    private long metricValue;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,21 @@
+package org.pucodehackathon.backend.admin.service;
+
+import org.pucodehackathon.backend.admin.audit.AdminAuditAction;
+import org.pucodehackathon.backend.admin.dto.AdminAuditEntryDto;
+import org.pucodehackathon.backend.helper.CursorPage;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface AdminAuditService {
+
+    CursorPage<AdminAuditEntryDto> search(
+            UUID targetId,
+            UUID actorId,
+            AdminAuditAction action,
+            LocalDateTime from,
+            LocalDateTime to,
+            String cursor,
+            int size
+    );
+}
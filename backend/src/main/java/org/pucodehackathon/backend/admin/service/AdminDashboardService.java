@@ -0,0 +1,11 @@
+package org.pucodehackathon.backend.admin.service;
+
+import org.pucodehackathon.backend.admin.dto.AdminDashboardResponseDto;
+
+public interface AdminDashboardService {
+
+    AdminDashboardResponseDto getDashboard(int days);
+
+    // Recounts the order status totals from orders; scans the orders table
+    void reconcile();
+}
@@ -0,0 +1,10 @@
+package org.pucodehackathon.backend.admin.service;
+
+import org.pucodehackathon.backend.admin.dto.AdminDensityTileDto;
+
+public interface AdminLocationService {
+
+    String densityTileEtag(int z, long x, long y);
+
+    AdminDensityTileDto getDensityTile(int z, long x, long y);
+}
@@ -2,13 +2,15 @@ package org.pucodehackathon.backend.admin.service;
 
 
 import org.pucodehackathon.backend.admin.dto.AdminVendorListPageResponseDto;
+import org.pucodehackathon.backend.vendor.model.VerificationStatus;
 
 public interface AdminVendorQueryService {
 
     AdminVendorListPageResponseDto getAllVendors(
-            String status,
+            VerificationStatus status,
             Boolean active,
-            int page,
-            int size
+            String cursor,
+            int size,
+            boolean exactCount
     );
 }
@@ -0,0 +1,91 @@
+package org.pucodehackathon.backend.admin.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.pucodehackathon.backend.admin.audit.AdminAuditAction;
+import org.pucodehackathon.backend.admin.dto.AdminAuditEntryDto;
+import org.pucodehackathon.backend.admin.service.AdminAuditService;
+import org.pucodehackathon.backend.helper.CursorPage;
+import org.pucodehackathon.backend.helper.KeysetCursor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class AdminAuditServiceImpl implements AdminAuditService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private static final String SELECT_SQL = """
+            SELECT BIN_TO_UUID(audit_id) AS audit_id, ts, BIN_TO_UUID(actor_id) AS actor_id, actor_email,
+                   action, target_type, BIN_TO_UUID(target_id) AS target_id, reason
+            FROM admin_audit_log
+            WHERE 1 = 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Newest first, seeking on (ts, audit_id); a from/to range also prunes partitions to the months it covers
+    @Override
+    public CursorPage<AdminAuditEntryDto> search(
+            UUID targetId,
+            UUID actorId,
+            AdminAuditAction action,
+            LocalDateTime from,
+            LocalDateTime to,
+            String cursor,
+            int size
+    ) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> args = new ArrayList<>();
+        if (targetId != null) {
+            sql.append(" AND target_id = UUID_TO_BIN(?)");
+            args.add(targetId.toString());
+        }
+        if (actorId != null) {
+            sql.append(" AND actor_id = UUID_TO_BIN(?)");
+            args.add(actorId.toString());
+        }
+        if (action != null) {
+            sql.append(" AND action = ?");
+            args.add(action.name());
+        }
+        if (from != null) {
+            sql.append(" AND ts >= ?");
+            args.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND ts < ?");
+            args.add(Timestamp.valueOf(to));
+        }
+        if (after != null) {
+            sql.append(" AND (ts < ? OR (ts = ? AND audit_id < UUID_TO_BIN(?)))");
+            args.add(Timestamp.valueOf(after.createdAt()));
+            args.add(Timestamp.valueOf(after.createdAt()));
+            args.add(after.id().toString());
+        }
+        sql.append(" ORDER BY ts DESC, audit_id DESC LIMIT ?");
+        args.add(pageSize + 1);
+
+        List<AdminAuditEntryDto> rows = jdbcTemplate.query(sql.toString(), (rs, rowNum) -> AdminAuditEntryDto.builder()
+                .auditId(UUID.fromString(rs.getString("audit_id")))
+                .timestamp(rs.getTimestamp("ts").toLocalDateTime())
+                .actorId(rs.getString("actor_id") != null ? UUID.fromString(rs.getString("actor_id")) : null)
+                .actorEmail(rs.getString("actor_email"))
+                .action(rs.getString("action"))
+                .targetType(rs.getString("target_type"))
+                .targetId(UUID.fromString(rs.getString("target_id")))
+                .reason(rs.getString("reason"))
+                .build(), args.toArray());
+
+        return CursorPage.of(rows, pageSize, e -> new KeysetCursor(e.getTimestamp(), e.getAuditId()));
+    }
+}
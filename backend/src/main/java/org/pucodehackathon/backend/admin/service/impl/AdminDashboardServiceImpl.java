@@ -0,0 +1,101 @@
+package org.pucodehackathon.backend.admin.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.pucodehackathon.backend.admin.cache.AdminVendorCountCache;
+import org.pucodehackathon.backend.admin.cache.DashboardMetrics;
+import org.pucodehackathon.backend.admin.dto.AdminDashboardCityDto;
+import org.pucodehackathon.backend.admin.dto.AdminDashboardDayDto;
+import org.pucodehackathon.backend.admin.dto.AdminDashboardResponseDto;
+import org.pucodehackathon.backend.admin.service.AdminDashboardService;
+import org.pucodehackathon.backend.order.model.OrderStatus;
+import org.pucodehackathon.backend.vendor.model.VerificationStatus;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.pucodehackathon.backend.admin.cache.DashboardMetrics.COMPLETED;
+import static org.pucodehackathon.backend.admin.cache.DashboardMetrics.PLACED;
+import static org.pucodehackathon.backend.admin.cache.DashboardMetrics.REJECTED;
+import static org.pucodehackathon.backend.admin.cache.DashboardMetrics.VENDORS_APPROVED;
+import static org.pucodehackathon.backend.admin.cache.DashboardMetrics.VENDORS_SUSPENDED;
+import static org.pucodehackathon.backend.admin.cache.DashboardMetrics.cityKey;
+import static org.pucodehackathon.backend.admin.cache.DashboardMetrics.dayKey;
+
+// Reads only in-memory counters; nothing here queries orders or vendor
+@Service
+@RequiredArgsConstructor
+public class AdminDashboardServiceImpl implements AdminDashboardService {
+
+    private static final int MAX_DAYS = 90;
+
+    private final DashboardMetrics metrics;
+    private final AdminVendorCountCache vendorCounts;
+
+    @Override
+    public void reconcile() {
+        metrics.reconcileStatuses();
+    }
+
+    @Override
+    public AdminDashboardResponseDto getDashboard(int days) {
+        Map<String, Long> ordersByStatus = new LinkedHashMap<>();
+        Map<String, BigDecimal> gmvByStatus = new LinkedHashMap<>();
+        for (OrderStatus status : OrderStatus.values()) {
+            ordersByStatus.put(status.name(), metrics.get("status." + status + ".count"));
+            gmvByStatus.put(status.name(), money(metrics.get("status." + status + ".gmv")));
+        }
+
+        Map<String, Long> vendorsByStatus = new LinkedHashMap<>();
+        for (VerificationStatus status : VerificationStatus.values()) {
+            vendorsByStatus.put(status.name(), vendorCounts.count(status, null));
+        }
+
+        LocalDate today = metrics.today();
+        List<AdminDashboardDayDto> dayRows = new ArrayList<>();
+        for (int i = 0; i < Math.clamp(days, 1, MAX_DAYS); i++) {
+            LocalDate day = today.minusDays(i);
+            dayRows.add(AdminDashboardDayDto.builder()
+                    .date(day)
+                    .ordersPlaced(metrics.get(dayKey(day, PLACED, "count")))
+                    .placedGmv(money(metrics.get(dayKey(day, PLACED, "gmv"))))
+                    .ordersCompleted(metrics.get(dayKey(day, COMPLETED, "count")))
+                    .completedGmv(money(metrics.get(dayKey(day, COMPLETED, "gmv"))))
+                    .ordersRejected(metrics.get(dayKey(day, REJECTED, "count")))
+                    .vendorsApproved(metrics.get(dayKey(day, VENDORS_APPROVED, "count")))
+                    .vendorsSuspended(metrics.get(dayKey(day, VENDORS_SUSPENDED, "count")))
+                    .build());
+        }
+
+        List<AdminDashboardCityDto> cityRows = new ArrayList<>();
+        for (String city : metrics.segments("city.")) {
+            cityRows.add(AdminDashboardCityDto.builder()
+                    .city(city)
+                    .ordersPlaced(metrics.get(cityKey(city, PLACED, "count")))
+                    .placedGmv(money(metrics.get(cityKey(city, PLACED, "gmv"))))
+                    .ordersCompleted(metrics.get(cityKey(city, COMPLETED, "count")))
+                    .completedGmv(money(metrics.get(cityKey(city, COMPLETED, "gmv"))))
+                    .ordersRejected(metrics.get(cityKey(city, REJECTED, "count")))
+                    .build());
+        }
+        cityRows.sort(Comparator.comparing(AdminDashboardCityDto::getCompletedGmv).reversed());
+
+        return AdminDashboardResponseDto.builder()
+                .ordersByStatus(ordersByStatus)
+                .gmvByStatus(gmvByStatus)
+                .vendorsByStatus(vendorsByStatus)
+                .activeVendors(vendorCounts.count(null, true))
+                .days(dayRows)
+                .cities(cityRows)
+                .build();
+    }
+
+    private static BigDecimal money(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, 2);
+    }
+}
@@ -0,0 +1,85 @@
+package org.pucodehackathon.backend.admin.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.pucodehackathon.backend.admin.dto.AdminDensityTileDto;
+import org.pucodehackathon.backend.admin.service.AdminLocationService;
+import org.pucodehackathon.backend.vendor.index.VendorDensityTileIndex;
+import org.pucodehackathon.backend.vendor.model.VendorType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AdminLocationServiceImpl implements AdminLocationService {
+
+    private final VendorDensityTileIndex densityIndex;
+
+    // 3 levels = an 8x8 grid of bins per tile
+    @Value("${app.admin.density-tiles.bin-depth:3}")
+    private int binDepth;
+
+    @Override
+    public String densityTileEtag(int z, long x, long y) {
+        validate(z, x, y);
+        return densityIndex.etag(z, x, y);
+    }
+
+    // Work is bounded by the bin grid, whatever the number of vendors
+    @Override
+    public AdminDensityTileDto getDensityTile(int z, long x, long y) {
+        validate(z, x, y);
+        VendorDensityTileIndex.Tile tile = densityIndex.get(z, x, y);
+
+        int depth = Math.min(binDepth, densityIndex.maxZoom() - z);
+        int binZoom = z + depth;
+        List<long[]> bins = new ArrayList<>();
+        if (tile != null) {
+            long side = 1L << depth;
+            for (long dy = 0; dy < side; dy++) {
+                for (long dx = 0; dx < side; dx++) {
+                    long binX = (x << depth) + dx;
+                    long binY = (y << depth) + dy;
+                    VendorDensityTileIndex.Tile bin = densityIndex.get(binZoom, binX, binY);
+                    if (bin != null) {
+                        bins.add(new long[]{
+                                binX,
+                                binY,
+                                bin.count(VendorType.FIXED, false),
+                                bin.count(VendorType.FIXED, true),
+                                bin.count(VendorType.MOBILE, false),
+                                bin.count(VendorType.MOBILE, true)
+                        });
+                    }
+                }
+            }
+        }
+
+        return AdminDensityTileDto.builder()
+                .z(z)
+                .x(x)
+                .y(y)
+                .total(tile != null ? tile.total() : 0)
+                .live(tile != null ? tile.count(VendorType.FIXED, true) + tile.count(VendorType.MOBILE, true) : 0)
+                .fixed(tile != null ? tile.count(VendorType.FIXED, false) + tile.count(VendorType.FIXED, true) : 0)
+                .mobile(tile != null ? tile.count(VendorType.MOBILE, false) + tile.count(VendorType.MOBILE, true) : 0)
+                .binZoom(binZoom)
+                .bins(bins)
+                .build();
+    }
+
+    private void validate(int z, long x, long y) {
+        if (z < 0 || z > densityIndex.maxZoom()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Zoom must be between 0 and " + densityIndex.maxZoom());
+        }
+        long side = 1L << z;
+        if (x < 0 || x >= side || y < 0 || y >= side) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Tile is outside the map at zoom " + z);
+        }
+    }
+}
@@ -2,9 +2,18 @@ package org.pucodehackathon.backend.admin.service.impl;
 
 
 import lombok.RequiredArgsConstructor;
+import org.pucodehackathon.backend.admin.audit.AdminAuditAction;
+import org.pucodehackathon.backend.admin.audit.AdminAuditLog;
+import org.pucodehackathon.backend.admin.cache.AdminVendorCountCache;
+import org.pucodehackathon.backend.admin.cache.DashboardMetrics;
 import org.pucodehackathon.backend.admin.dto.AdminVendorStatusResponseDto;
 import org.pucodehackathon.backend.admin.service.AdminVendorManagementService;
 import org.pucodehackathon.backend.exception.vendor_exceptions.VendorNotFoundException;
+import org.pucodehackathon.backend.product.cache.VendorCatalogCache;
+import org.pucodehackathon.backend.product.search.ProductSearchIndex;
+import org.pucodehackathon.backend.product.search.SuggestIndex;
+import org.pucodehackathon.backend.vendor.index.LiveLocationBuffer;
+import org.pucodehackathon.backend.vendor.index.VendorGeoIndex;
 import org.pucodehackathon.backend.vendor.model.Vendor;
 import org.pucodehackathon.backend.vendor.model.VerificationStatus;
 import org.pucodehackathon.backend.vendor.repositories.VendorRepository;
@@ -19,12 +28,28 @@ import java.util.UUID;
 public class AdminVendorManagementServiceImpl implements AdminVendorManagementService {
 
     private final VendorRepository vendorRepository;
+    private final VendorGeoIndex geoIndex;
+    private final VendorCatalogCache catalogCache;
+    private final ProductSearchIndex searchIndex;
+    private final SuggestIndex suggestIndex;
+    private final LiveLocationBuffer liveLocationBuffer;
+    private final AdminVendorCountCache countCache;
+    private final DashboardMetrics dashboardMetrics;
+    private final AdminAuditLog auditLog;
 
     @Override
     public AdminVendorStatusResponseDto activateVendor(UUID vendorId) {
         Vendor vendor = getVendor(vendorId);
+        Boolean wasActive = vendor.getIsActive();
 
         vendor.setIsActive(true);
+        countCache.moved(vendor.getVerificationStatus(), wasActive, vendor.getVerificationStatus(), true);
+        geoIndex.refresh(vendor);
+        searchIndex.refresh(vendor.getVendorId());
+        suggestIndex.refresh(vendor.getVendorId());
+        catalogCache.bump(vendor.getVendorId());
+        liveLocationBuffer.forgetVendor(vendor.getUserId());
+        auditLog.record(AdminAuditAction.VENDOR_ACTIVATED, "VENDOR", vendor.getVendorId(), null);
 
         return buildResponse(vendor, "Vendor activated successfully");
     }
@@ -32,8 +57,16 @@ public class AdminVendorManagementServiceImpl implements AdminVendorManagementSe
     @Override
     public AdminVendorStatusResponseDto deactivateVendor(UUID vendorId) {
         Vendor vendor = getVendor(vendorId);
+        Boolean wasActive = vendor.getIsActive();
 
         vendor.setIsActive(false);
+        countCache.moved(vendor.getVerificationStatus(), wasActive, vendor.getVerificationStatus(), false);
+        geoIndex.refresh(vendor);
+        searchIndex.refresh(vendor.getVendorId());
+        suggestIndex.refresh(vendor.getVendorId());
+        catalogCache.bump(vendor.getVendorId());
+        liveLocationBuffer.forgetVendor(vendor.getUserId());
+        auditLog.record(AdminAuditAction.VENDOR_DEACTIVATED, "VENDOR", vendor.getVendorId(), null);
 
         return buildResponse(vendor, "Vendor deactivated successfully");
     }
@@ -41,12 +74,19 @@ public class AdminVendorManagementServiceImpl implements AdminVendorManagementSe
     @Override
     public AdminVendorStatusResponseDto suspendVendor(UUID vendorId, String reason) {
         Vendor vendor = getVendor(vendorId);
+        VerificationStatus previousStatus = vendor.getVerificationStatus();
+        Boolean wasActive = vendor.getIsActive();
 
         vendor.setVerificationStatus(VerificationStatus.SUSPENDED);
         vendor.setIsActive(false);
-
-        // Optional: persist suspension reason in audit/log table
-        // auditService.logVendorSuspension(vendorId, reason);
+        countCache.moved(previousStatus, wasActive, VerificationStatus.SUSPENDED, false);
+        dashboardMetrics.vendorSuspended();
+        geoIndex.refresh(vendor);
+        searchIndex.refresh(vendor.getVendorId());
+        suggestIndex.refresh(vendor.getVendorId());
+        catalogCache.bump(vendor.getVendorId());
+        liveLocationBuffer.forgetVendor(vendor.getUserId());
+        auditLog.record(AdminAuditAction.VENDOR_SUSPENDED, "VENDOR", vendor.getVendorId(), reason);
 
         return buildResponse(vendor, "Vendor suspended: " + reason);
     }
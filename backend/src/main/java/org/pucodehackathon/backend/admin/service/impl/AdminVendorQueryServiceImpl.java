@@ -1,46 +1,64 @@
 package org.pucodehackathon.backend.admin.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.pucodehackathon.backend.admin.cache.AdminVendorCountCache;
 import org.pucodehackathon.backend.admin.dto.AdminVendorListPageResponseDto;
 import org.pucodehackathon.backend.admin.dto.AdminVendorListResponseDto;
 import org.pucodehackathon.backend.admin.service.AdminVendorQueryService;
 import org.pucodehackathon.backend.admin.specification.VendorSpecifications;
+import org.pucodehackathon.backend.helper.CursorPage;
+import org.pucodehackathon.backend.helper.KeysetCursor;
 import org.pucodehackathon.backend.vendor.model.Vendor;
+import org.pucodehackathon.backend.vendor.model.VerificationStatus;
 import org.pucodehackathon.backend.vendor.repositories.VendorRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class AdminVendorQueryServiceImpl implements AdminVendorQueryService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "vendorId");
+
     private final VendorRepository vendorRepository;
+    private final AdminVendorCountCache countCache;
 
     @Override
+    @Transactional(readOnly = true)
     public AdminVendorListPageResponseDto getAllVendors(
-            String status,
+            VerificationStatus status,
             Boolean active,
-            int page,
-            int size
+            String cursor,
+            int size,
+            boolean exactCount
     ) {
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        KeysetCursor after = KeysetCursor.decode(cursor);
 
-        Specification<Vendor> spec = Specification
+        Specification<Vendor> filter = Specification
                 .where(VendorSpecifications.hasStatus(status))
                 .and(VendorSpecifications.isActive(active));
 
-        Page<Vendor> vendorPage = vendorRepository.findAll(spec, pageable);
+        // Seek on (created_at, vendor_id) instead of OFFSET; one extra row tells whether there is more
+        List<Vendor> rows = vendorRepository.findBy(
+                filter.and(VendorSpecifications.after(after)),
+                query -> query.sortBy(NEWEST_FIRST).limit(pageSize + 1).all()
+        );
+        CursorPage<Vendor> page = CursorPage.of(rows, pageSize, v -> new KeysetCursor(v.getCreatedAt(), v.getVendorId()));
+
+        boolean exact = exactCount || !countCache.isReady();
+        long total = exact ? vendorRepository.count(filter) : countCache.count(status, active);
 
         return AdminVendorListPageResponseDto.builder()
                 .vendors(
-                        vendorPage.getContent().stream()
+                        page.getItems().stream()
                                 .map(v -> AdminVendorListResponseDto.builder()
                                         .vendorId(v.getVendorId())
                                         .businessName(v.getBusinessName())
@@ -53,10 +71,10 @@ public class AdminVendorQueryServiceImpl implements AdminVendorQueryService {
                                         .build())
                                 .collect(Collectors.toList())
                 )
-                .page(vendorPage.getNumber())
-                .size(vendorPage.getSize())
-                .totalElements(vendorPage.getTotalElements())
-                .totalPages(vendorPage.getTotalPages())
+                .nextCursor(page.getNextCursor())
+                .hasMore(page.isHasMore())
+                .totalElements(total)
+                .countExact(exact)
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,10 @@
 package org.pucodehackathon.backend.admin.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.pucodehackathon.backend.admin.audit.AdminAuditAction;
+import org.pucodehackathon.backend.admin.audit.AdminAuditLog;
+import org.pucodehackathon.backend.admin.cache.AdminVendorCountCache;
+import org.pucodehackathon.backend.admin.cache.DashboardMetrics;
 import org.pucodehackathon.backend.admin.dto.*;
 import org.pucodehackathon.backend.admin.service.AdminVendorService;
 import org.pucodehackathon.backend.auth.model.Role;
@@ -11,7 +15,13 @@ import org.pucodehackathon.backend.auth.repositories.UserRepository;
 import org.pucodehackathon.backend.exception.UserNotFoundException;
 import org.pucodehackathon.backend.exception.vendor_exceptions.VendorAlreadyVerifiedException;
 import org.pucodehackathon.backend.exception.vendor_exceptions.VendorNotFoundException;
+import org.pucodehackathon.backend.product.cache.VendorCatalogCache;
+import org.pucodehackathon.backend.product.search.ProductSearchIndex;
+import org.pucodehackathon.backend.product.search.SuggestIndex;
 import org.pucodehackathon.backend.product.repositories.CategoryRepository;
+import org.pucodehackathon.backend.security.PrincipalCache;
+import org.pucodehackathon.backend.vendor.index.LiveLocationBuffer;
+import org.pucodehackathon.backend.vendor.index.VendorGeoIndex;
 import org.pucodehackathon.backend.vendor.model.Vendor;
 import org.pucodehackathon.backend.vendor.model.VerificationStatus;
 import org.pucodehackathon.backend.vendor.repositories.VendorLocationRepository;
@@ -32,6 +42,15 @@ public class AdminVendorServiceImpl implements AdminVendorService {
     private final RoleRepository roleRepository;
     private final VendorLocationRepository locationRepository;
     private final CategoryRepository categoryRepository;
+    private final VendorGeoIndex geoIndex;
+    private final VendorCatalogCache catalogCache;
+    private final ProductSearchIndex searchIndex;
+    private final SuggestIndex suggestIndex;
+    private final PrincipalCache principalCache;
+    private final LiveLocationBuffer liveLocationBuffer;
+    private final AdminVendorCountCache countCache;
+    private final DashboardMetrics dashboardMetrics;
+    private final AdminAuditLog auditLog;
 
 
     @Override
@@ -45,10 +64,16 @@ public class AdminVendorServiceImpl implements AdminVendorService {
             throw new VendorAlreadyVerifiedException("Vendor already approved");
         }
 
+        VerificationStatus previousStatus = vendor.getVerificationStatus();
+        Boolean wasActive = vendor.getIsActive();
+
         //approve the vendor
         vendor.setVerificationStatus(VerificationStatus.APPROVED);
         vendor.setIsActive(true);
         vendorRepository.save(vendor);
+        countCache.moved(previousStatus, wasActive, vendor.getVerificationStatus(), vendor.getIsActive());
+        dashboardMetrics.vendorApproved();
+        auditLog.record(AdminAuditAction.VENDOR_APPROVED, "VENDOR", vendor.getVendorId(), null);
 
         User user = userRepository.findById(vendor.getUserId()).orElseThrow(
                 () -> new UserNotFoundException("User not found by this userid " +  vendor.getUserId())
@@ -58,7 +83,13 @@ public class AdminVendorServiceImpl implements AdminVendorService {
                 .orElseThrow(() -> new RuntimeException("ROLE VENDOR not found"));
 
         user.getRoles().add(userRole);
+        principalCache.evict(user.getId());
 
+        geoIndex.refresh(vendor);
+        searchIndex.refresh(vendor.getVendorId());
+        suggestIndex.refresh(vendor.getVendorId());
+        catalogCache.bump(vendor.getVendorId());
+        liveLocationBuffer.forgetVendor(vendor.getUserId());
 
         return AdminVendorActionResponseDto.builder()
                 .vendorId(vendor.getVendorId())
@@ -76,12 +107,19 @@ public class AdminVendorServiceImpl implements AdminVendorService {
             throw new IllegalStateException("Approved vendor cannot be rejected");
         }
 
+        VerificationStatus previousStatus = vendor.getVerificationStatus();
+        Boolean wasActive = vendor.getIsActive();
+
         vendor.setVerificationStatus(VerificationStatus.REJECTED);
         vendor.setIsActive(false);
         vendorRepository.save(vendor);
-
-        // Optional: store rejection reason in a separate table
-        // vendorRejectionRepository.save(...)
+        countCache.moved(previousStatus, wasActive, vendor.getVerificationStatus(), vendor.getIsActive());
+        geoIndex.refresh(vendor);
+        searchIndex.refresh(vendor.getVendorId());
+        suggestIndex.refresh(vendor.getVendorId());
+        catalogCache.bump(vendor.getVendorId());
+        liveLocationBuffer.forgetVendor(vendor.getUserId());
+        auditLog.record(AdminAuditAction.VENDOR_REJECTED, "VENDOR", vendor.getVendorId(), reason);
 
         return AdminVendorActionResponseDto.builder()
                 .vendorId(vendor.getVendorId())
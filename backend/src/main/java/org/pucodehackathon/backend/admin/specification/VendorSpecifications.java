@@ -2,12 +2,17 @@ package org.pucodehackathon.backend.admin.specification;
 
 
 
+import org.pucodehackathon.backend.helper.KeysetCursor;
 import org.pucodehackathon.backend.vendor.model.Vendor;
+import org.pucodehackathon.backend.vendor.model.VerificationStatus;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
+import java.util.UUID;
+
 public class VendorSpecifications {
 
-    public static Specification<Vendor> hasStatus(String status) {
+    public static Specification<Vendor> hasStatus(VerificationStatus status) {
         return (root, query, cb) ->
                 status == null ? null :
                         cb.equal(root.get("verificationStatus"), status);
@@ -18,4 +23,17 @@ public class VendorSpecifications {
                 active == null ? null :
                         cb.equal(root.get("isActive"), active);
     }
-}
\ No newline at end of file
+
+    // Rows strictly after the cursor in (createdAt DESC, vendorId DESC) order
+    public static Specification<Vendor> after(KeysetCursor cursor) {
+        return (root, query, cb) ->
+                cursor == null ? null :
+                        cb.or(
+                                cb.lessThan(root.<LocalDateTime>get("createdAt"), cursor.createdAt()),
+                                cb.and(
+                                        cb.equal(root.get("createdAt"), cursor.createdAt()),
+                                        cb.lessThan(root.<UUID>get("vendorId"), cursor.id())
+                                )
+                        );
+    }
+}
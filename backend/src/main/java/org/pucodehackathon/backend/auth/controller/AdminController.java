@@ -1,25 +0,0 @@
-package org.pucodehackathon.backend.auth.controller;
-
-import lombok.RequiredArgsConstructor;
-
-import org.pucodehackathon.backend.auth.dto.ApiResponse;
-import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
-
-import java.util.Map;
-
-@RestController
-@RequestMapping("/api/v1/admin")
-@RequiredArgsConstructor
-@PreAuthorize("hasRole('ADMIN')")
-public class AdminController {
-
-    @GetMapping("/dashboard")
-    public ResponseEntity<ApiResponse> getDashboard() {
-        return ResponseEntity.ok(new ApiResponse(true,
-                "Admin dashboard data", Map.of("role", "ADMIN")));
-    }
-}
\ No newline at end of file
@@ -2,8 +2,10 @@ package org.pucodehackathon.backend.auth.controller;
 
 
 import lombok.RequiredArgsConstructor;
-import org.pucodehackathon.backend.auth.dto.userDto.VendorCatalogResponseDto;
 import org.pucodehackathon.backend.auth.service.UserVendorCatalogService;
+import org.pucodehackathon.backend.product.cache.VendorCatalogCache;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -22,11 +24,16 @@ public class UserVendorCatalogController {
     private final UserVendorCatalogService catalogService;
 
     @GetMapping("/{vendorId}/catalog")
-    public ResponseEntity<VendorCatalogResponseDto> getVendorCatalog(
+    public ResponseEntity<byte[]> getVendorCatalog(
             @PathVariable UUID vendorId
     ) {
-        return ResponseEntity.ok(
-                catalogService.getVendorCatalog(vendorId)
-        );
+        VendorCatalogCache.CatalogSnapshot snapshot = catalogService.getVendorCatalogSnapshot(vendorId);
+
+        // Spring answers a matching If-None-Match with 304 and drops the body
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
     }
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package org.pucodehackathon.backend.auth.model;
+
+public enum MailOutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
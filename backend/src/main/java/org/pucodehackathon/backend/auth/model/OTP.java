@@ -8,7 +8,13 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "otps")
+@Table(
+        name = "otps",
+        indexes = {
+                @Index(name = "idx_otps_email", columnList = "email"),
+                @Index(name = "idx_otps_expiry", columnList = "expiry_time")
+        }
+)
 @Getter
 @Setter
 @Builder
@@ -32,6 +38,9 @@ public class OTP {
     @Column(nullable = false)
     private boolean verified = false;
 
+    @Column(nullable = false)
+    private int attempts;
+
     @CreationTimestamp
     @Column(nullable = false , updatable = false)
     private LocalDateTime createdAt;
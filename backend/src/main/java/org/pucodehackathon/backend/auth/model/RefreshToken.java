@@ -11,7 +11,8 @@ import java.util.UUID;
 @Entity
 @Table(name = "refresh_tokens", indexes = {
         @Index(name = "refresh_tokens_jti_idx", columnList = "jti", unique = true),
-        @Index(name = "refresh_tokens_user_id_idx", columnList = "user_id")
+        @Index(name = "refresh_tokens_user_id_idx", columnList = "user_id"),
+        @Index(name = "refresh_tokens_expires_at_idx", columnList = "expires_at")
 })
 @Getter
 @Setter
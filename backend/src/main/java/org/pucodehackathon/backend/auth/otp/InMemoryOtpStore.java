@@ -0,0 +1,128 @@
+package org.pucodehackathon.backend.auth.otp;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Codes live in a concurrent map with a per-entry deadline. Expired entries are
+ * rejected on read and evicted by a one-second timing wheel, so nothing scans
+ * the whole map. Codes are per instance: multi-node deployments without sticky
+ * sessions should use otp.store=jpa.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "otp.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOtpStore implements OtpStore {
+
+    private static final long TICK_NANOS = 1_000_000_000L;
+
+    @Value("${otp.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${otp.memory.wheel-slots:512}")
+    private int wheelSlots;
+
+    private final ConcurrentHashMap<String, Entry> codes = new ConcurrentHashMap<>();
+    private final long origin = System.nanoTime();
+
+    private Set<String>[] wheel;
+    private long lastTick;
+    private final AtomicBoolean advancing = new AtomicBoolean();
+
+    private record Entry(byte[] code, long deadline, int attempts) {
+    }
+
+    @PostConstruct
+    @SuppressWarnings("unchecked")
+    void init() {
+        wheel = new Set[wheelSlots];
+        for (int i = 0; i < wheelSlots; i++) {
+            wheel[i] = ConcurrentHashMap.newKeySet();
+        }
+    }
+
+    @Override
+    public void put(String email, String code, Duration ttl) {
+        long deadline = System.nanoTime() + ttl.toNanos();
+        codes.put(email, new Entry(code.getBytes(StandardCharsets.UTF_8), deadline, 0));
+        slot(tickOf(deadline)).add(email);
+    }
+
+    @Override
+    public boolean verify(String email, String code) {
+        byte[] candidate = code.getBytes(StandardCharsets.UTF_8);
+        boolean[] matched = new boolean[1];
+
+        codes.computeIfPresent(email, (key, entry) -> {
+            if (System.nanoTime() - entry.deadline() >= 0) {
+                return null;
+            }
+            if (MessageDigest.isEqual(entry.code(), candidate)) {
+                matched[0] = true;
+                return null;
+            }
+            int attempts = entry.attempts() + 1;
+            // Too many wrong guesses burn the code; the user has to request a new one
+            return attempts >= maxAttempts ? null : new Entry(entry.code(), entry.deadline(), attempts);
+        });
+
+        return matched[0];
+    }
+
+    public int size() {
+        return codes.size();
+    }
+
+    @Scheduled(fixedDelayString = "${otp.memory.tick-ms:1000}")
+    public void advance() {
+        if (!advancing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            long currentTick = tickOf(now);
+            // Catch up on every slot passed since the last run, at most one full turn
+            long from = Math.max(lastTick + 1, currentTick - wheelSlots + 1);
+            for (long tick = from; tick <= currentTick; tick++) {
+                Set<String> slot = slot(tick);
+                // Snapshot first: entries due in a later turn are put back into this same slot
+                List<String> due = new ArrayList<>(slot);
+                slot.removeAll(due);
+                for (String email : due) {
+                    codes.computeIfPresent(email, (key, entry) -> {
+                        if (now - entry.deadline() >= 0) {
+                            return null;
+                        }
+                        // Replaced by a newer code, due later this second or more than a turn away
+                        slot(Math.max(tickOf(entry.deadline()), currentTick + 1)).add(key);
+                        return entry;
+                    });
+                }
+            }
+            lastTick = currentTick;
+        } finally {
+            advancing.set(false);
+        }
+    }
+
+    private long tickOf(long nanos) {
+        return (nanos - origin) / TICK_NANOS;
+    }
+
+    private Set<String> slot(long tick) {
+        return wheel[(int) Math.floorMod(tick, (long) wheelSlots)];
+    }
+}
@@ -0,0 +1,73 @@
+package org.pucodehackathon.backend.auth.otp;
+
+import lombok.RequiredArgsConstructor;
+import org.pucodehackathon.backend.auth.model.OTP;
+import org.pucodehackathon.backend.auth.repositories.OTPRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+// Persistent mode: codes survive restarts and are shared across instances
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "otp.store", havingValue = "jpa")
+public class JpaOtpStore implements OtpStore {
+
+    private final OTPRepository otpRepository;
+
+    @Value("${otp.max-attempts:5}")
+    private int maxAttempts;
+
+    @Override
+    @Transactional
+    public void put(String email, String code, Duration ttl) {
+        otpRepository.deleteOTPByEmail(email);
+
+        otpRepository.save(OTP.builder()
+                .email(email)
+                .otpCode(code)
+                .expiryTime(LocalDateTime.now().plus(ttl))
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public boolean verify(String email, String code) {
+        Optional<OTP> pending = otpRepository.findFirstByEmailAndVerifiedFalseOrderByCreatedAtDesc(email);
+
+        if (pending.isEmpty()) return false;
+
+        OTP otp = pending.get();
+
+        if (otp.getExpiryTime().isBefore(LocalDateTime.now())) {
+            return false;
+        }
+
+        boolean matches = MessageDigest.isEqual(
+                otp.getOtpCode().getBytes(StandardCharsets.UTF_8),
+                code.getBytes(StandardCharsets.UTF_8)
+        );
+
+        if (matches) {
+            otp.setVerified(true);
+            otpRepository.save(otp);
+            return true;
+        }
+
+        // Too many wrong guesses burn the code
+        otp.setAttempts(otp.getAttempts() + 1);
+        if (otp.getAttempts() >= maxAttempts) {
+            otpRepository.delete(otp);
+        } else {
+            otpRepository.save(otp);
+        }
+        return false;
+    }
+}
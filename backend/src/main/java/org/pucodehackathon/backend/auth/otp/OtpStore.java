@@ -0,0 +1,15 @@
+package org.pucodehackathon.backend.auth.otp;
+
+import java.time.Duration;
+
+/**
+ * Backing store for one-time codes, selected with otp.store (memory | jpa).
+ */
+public interface OtpStore {
+
+    // Replaces any code already issued to this email
+    void put(String email, String code, Duration ttl);
+
+    // True at most once per code; wrong guesses count towards otp.max-attempts
+    boolean verify(String email, String code);
+}
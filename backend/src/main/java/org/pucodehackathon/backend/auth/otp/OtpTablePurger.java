@@ -0,0 +1,48 @@
+package org.pucodehackathon.backend.auth.otp;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Deletes expired and verified rows from otps in small chunks. Runs in both
+ * store modes so rows left over from the persistent mode are cleaned up too.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OtpTablePurger {
+
+    private static final String PURGE_SQL = """
+            DELETE FROM otps
+            WHERE expiry_time < ? OR verified = true
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${otp.purge.chunk:1000}")
+    private int chunk;
+
+    @Scheduled(fixedDelayString = "${otp.purge.interval-ms:600000}")
+    public void purge() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int total = 0;
+        int deleted;
+        // Each chunk commits on its own so the purge never holds long locks
+        do {
+            deleted = jdbcTemplate.update(PURGE_SQL, now, chunk);
+            total += deleted;
+        } while (deleted == chunk);
+
+        if (total > 0) {
+            log.debug("Purged {} otp rows", total);
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package org.pucodehackathon.backend.auth.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains mail_outbox. Due rows are claimed in batches with FOR UPDATE SKIP LOCKED
+ * so several instances can dispatch side by side, leased by pushing
+ * next_attempt_at forward, and handed to a small fixed pool, or to virtual
+ * threads when they are enabled. Each batch goes out over one SMTP
+ * connection; failed messages are retried with exponential backoff until
+ * max-attempts, after which they are parked as FAILED. SENT and FAILED rows
+ * keep only their metadata, since the body is cleared in the same update,
+ * and both are purged after retention-days.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailOutboxDispatcher {
+
+    private static final String CLAIM_SQL = """
+            SELECT BIN_TO_UUID(id) AS id, recipient, subject, body, attempts
+            FROM mail_outbox
+            WHERE status IN ('PENDING', 'SENDING') AND next_attempt_at <= ?
+            ORDER BY next_attempt_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String LEASE_SQL = """
+            UPDATE mail_outbox
+            SET status = 'SENDING', attempts = attempts + 1, next_attempt_at = ?
+            WHERE id = UUID_TO_BIN(?)
+            """;
+
+    // Bodies carry OTPs and reset links, so only the metadata outlives delivery
+    private static final String SENT_SQL = """
+            UPDATE mail_outbox
+            SET status = 'SENT', sent_at = ?, last_error = NULL, body = ''
+            WHERE id = UUID_TO_BIN(?)
+            """;
+
+    private static final String RETRY_SQL = """
+            UPDATE mail_outbox
+            SET status = 'PENDING', next_attempt_at = ?, last_error = ?
+            WHERE id = UUID_TO_BIN(?)
+            """;
+
+    // Parked for good, so the body is cleared like a delivered one; next_attempt_at records when it gave up
+    private static final String FAILED_SQL = """
+            UPDATE mail_outbox
+            SET status = 'FAILED', next_attempt_at = ?, last_error = ?, body = ''
+            WHERE id = UUID_TO_BIN(?)
+            """;
+
+    private static final String PURGE_SENT_SQL = """
+            DELETE FROM mail_outbox
+            WHERE status = 'SENT' AND sent_at < ?
+            LIMIT ?
+            """;
+
+    // Served by idx_mail_outbox_due (status, next_attempt_at)
+    private static final String PURGE_FAILED_SQL = """
+            DELETE FROM mail_outbox
+            WHERE status = 'FAILED' AND next_attempt_at < ?
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.mail.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.mail.outbox.threads:2}")
+    private int threads;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${app.mail.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.backoff-base-seconds:30}")
+    private long backoffBaseSeconds;
+
+    @Value("${app.mail.outbox.backoff-max-seconds:1800}")
+    private long backoffMaxSeconds;
+
+    @Value("${app.mail.outbox.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Value("${app.mail.outbox.retention-days:7}")
+    private long retentionDays;
+
+    @Value("${app.mail.outbox.purge-chunk:1000}")
+    private int purgeChunk;
+
+    private ExecutorService executor;
+    private Semaphore slots;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private Counter sent;
+    private Counter retried;
+    private Counter failed;
+    private Timer batchTimer;
+
+    private record Claimed(UUID id, String recipient, String subject, String body, int attempts) {
+    }
+
+    @PostConstruct
+    void init() {
+        if (virtualThreads) {
+            // SMTP is blocking I/O; the semaphore below still bounds concurrent sessions
+            executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("mail-outbox-", 1).factory());
+        } else {
+            AtomicInteger threadIds = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "mail-outbox-" + threadIds.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        slots = new Semaphore(threads);
+
+        sent = meterRegistry.counter("mail.outbox.messages", "result", "sent");
+        retried = meterRegistry.counter("mail.outbox.messages", "result", "retried");
+        failed = meterRegistry.counter("mail.outbox.messages", "result", "failed");
+        batchTimer = meterRegistry.timer("mail.outbox.batch");
+        meterRegistry.gauge("mail.outbox.in.flight", inFlight);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        // Unfinished leases expire and are picked up again on the next start
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-ms:1000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        // Keep claiming while a dispatcher thread is free and rows are due
+        while (slots.tryAcquire()) {
+            List<Claimed> batch;
+            try {
+                batch = claim();
+            } catch (RuntimeException ex) {
+                slots.release();
+                log.error("Mail outbox claim failed", ex);
+                return;
+            }
+            if (batch.isEmpty()) {
+                slots.release();
+                return;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        dispatch(batch);
+                    } finally {
+                        slots.release();
+                    }
+                });
+            } catch (RejectedExecutionException ex) {
+                // Shutting down; the lease expires and another poll retries the batch
+                slots.release();
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.purge-ms:3600000}")
+    public void purge() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays));
+        purge(PURGE_SENT_SQL, cutoff);
+        purge(PURGE_FAILED_SQL, cutoff);
+    }
+
+    // Small chunks so the purge never holds long locks on the table
+    private void purge(String sql, Timestamp cutoff) {
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(sql, cutoff, purgeChunk);
+        } while (deleted == purgeChunk);
+    }
+
+    private List<Claimed> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Claimed> rows = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new Claimed(
+                    UUID.fromString(rs.getString("id")),
+                    rs.getString("recipient"),
+                    rs.getString("subject"),
+                    rs.getString("body"),
+                    rs.getInt("attempts") + 1
+            ), Timestamp.valueOf(now), batchSize);
+
+            if (!rows.isEmpty()) {
+                Timestamp leaseUntil = Timestamp.valueOf(now.plusSeconds(leaseSeconds));
+                List<Object[]> args = new ArrayList<>(rows.size());
+                for (Claimed row : rows) {
+                    args.add(new Object[]{leaseUntil, row.id().toString()});
+                }
+                jdbcTemplate.batchUpdate(LEASE_SQL, args);
+            }
+            return rows;
+        });
+    }
+
+    private void dispatch(List<Claimed> batch) {
+        inFlight.addAndGet(batch.size());
+        try {
+            SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+            for (int i = 0; i < batch.size(); i++) {
+                messages[i] = toMessage(batch.get(i));
+            }
+
+            Map<Object, Exception> failures = Map.of();
+            MailException batchFailure = null;
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                // One SMTP connection for the whole batch
+                mailSender.send(messages);
+            } catch (MailSendException ex) {
+                failures = ex.getFailedMessages();
+                batchFailure = failures.isEmpty() ? ex : null;
+            } catch (MailException ex) {
+                batchFailure = ex;
+            } finally {
+                sample.stop(batchTimer);
+            }
+
+            List<Object[]> sentArgs = new ArrayList<>();
+            List<Object[]> retryArgs = new ArrayList<>();
+            List<Object[]> failedArgs = new ArrayList<>();
+            LocalDateTime now = LocalDateTime.now();
+
+            for (int i = 0; i < batch.size(); i++) {
+                Claimed row = batch.get(i);
+                Exception error = batchFailure != null ? batchFailure : failures.get(messages[i]);
+                if (error == null) {
+                    sentArgs.add(new Object[]{Timestamp.valueOf(now), row.id().toString()});
+                    sent.increment();
+                } else if (row.attempts() >= maxAttempts) {
+                    failedArgs.add(failedArgs(row, error, now));
+                } else {
+                    retryArgs.add(retryArgs(row, error, now));
+                }
+            }
+
+            if (!sentArgs.isEmpty()) {
+                jdbcTemplate.batchUpdate(SENT_SQL, sentArgs);
+            }
+            if (!retryArgs.isEmpty()) {
+                jdbcTemplate.batchUpdate(RETRY_SQL, retryArgs);
+                log.warn("Mail outbox: {} of {} messages failed, rescheduled", retryArgs.size(), batch.size());
+            }
+            if (!failedArgs.isEmpty()) {
+                jdbcTemplate.batchUpdate(FAILED_SQL, failedArgs);
+            }
+        } catch (RuntimeException ex) {
+            // Status could not be recorded; the lease expires and the batch is retried
+            log.error("Mail outbox dispatch failed", ex);
+        } finally {
+            inFlight.addAndGet(-batch.size());
+        }
+    }
+
+    private Object[] retryArgs(Claimed row, Exception error, LocalDateTime now) {
+        retried.increment();
+        return new Object[]{
+                Timestamp.valueOf(now.plus(backoff(row.attempts()))),
+                lastError(error),
+                row.id().toString()
+        };
+    }
+
+    private Object[] failedArgs(Claimed row, Exception error, LocalDateTime now) {
+        String lastError = lastError(error);
+        failed.increment();
+        log.error("Mail to {} failed after {} attempts: {}", row.recipient(), row.attempts(), lastError);
+        return new Object[]{Timestamp.valueOf(now), lastError, row.id().toString()};
+    }
+
+    private static String lastError(Exception error) {
+        String message = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+        return message.length() > 512 ? message.substring(0, 512) : message;
+    }
+
+    // base * 2^(attempts - 1), capped
+    private Duration backoff(int attempts) {
+        long seconds = backoffBaseSeconds << Math.min(attempts - 1, 20);
+        return Duration.ofSeconds(Math.min(seconds, backoffMaxSeconds));
+    }
+
+    private static SimpleMailMessage toMessage(Claimed row) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(row.recipient());
+        message.setSubject(row.subject());
+        message.setText(row.body());
+        return message;
+    }
+}
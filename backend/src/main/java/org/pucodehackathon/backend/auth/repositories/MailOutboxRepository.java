@@ -0,0 +1,9 @@
+package org.pucodehackathon.backend.auth.repositories;
+
+import org.pucodehackathon.backend.auth.model.MailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, UUID> {
+}
@@ -11,5 +11,5 @@ import java.util.UUID;
 @Repository
 public interface OTPRepository extends JpaRepository<OTP, UUID> {
     void deleteOTPByEmail(String email);
-    Optional<OTP> findByEmailAndOtpCodeAndVerifiedFalse(String email , String otp);
+    Optional<OTP> findFirstByEmailAndVerifiedFalseOrderByCreatedAtDesc(String email);
 }
\ No newline at end of file
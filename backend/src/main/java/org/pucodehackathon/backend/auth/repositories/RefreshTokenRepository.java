@@ -3,9 +3,14 @@ package org.pucodehackathon.backend.auth.repositories;
 
 import org.pucodehackathon.backend.auth.model.RefreshToken;
 import org.pucodehackathon.backend.auth.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,4 +18,12 @@ import java.util.UUID;
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
     RefreshToken findAllByUserAndRevokedFalse(User user);
     Optional<RefreshToken> findByJti(String jti);
+
+    boolean existsByJtiAndRevokedTrue(String jti);
+
+    @Query("SELECT r.jti FROM RefreshToken r WHERE r.revoked = true AND r.expiresAt > :now")
+    List<String> findRevokedJtisExpiringAfter(@Param("now") Instant now);
+
+    @Query("SELECT r.id FROM RefreshToken r WHERE r.expiresAt < :now")
+    List<UUID> findExpiredIds(@Param("now") Instant now, Limit limit);
 }
\ No newline at end of file
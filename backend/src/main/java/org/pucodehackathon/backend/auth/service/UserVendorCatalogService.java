@@ -1,9 +1,12 @@
 package org.pucodehackathon.backend.auth.service;
 
 import org.pucodehackathon.backend.auth.dto.userDto.VendorCatalogResponseDto;
+import org.pucodehackathon.backend.product.cache.VendorCatalogCache;
 
 import java.util.UUID;
 
 public interface UserVendorCatalogService {
     VendorCatalogResponseDto getVendorCatalog(UUID vendorId);
+
+    VendorCatalogCache.CatalogSnapshot getVendorCatalogSnapshot(UUID vendorId);
 }
\ No newline at end of file
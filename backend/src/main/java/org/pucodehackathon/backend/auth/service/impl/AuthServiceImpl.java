@@ -1,6 +1,7 @@
 package org.pucodehackathon.backend.auth.service.impl;
 
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,19 +9,22 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.pucodehackathon.backend.auth.dto.*;
 import org.pucodehackathon.backend.auth.model.*;
-import org.pucodehackathon.backend.auth.repositories.RefreshTokenRepository;
 import org.pucodehackathon.backend.auth.repositories.RoleRepository;
 import org.pucodehackathon.backend.auth.repositories.UserRepository;
 import org.pucodehackathon.backend.auth.service.AuthService;
 import org.pucodehackathon.backend.exception.*;
+import org.pucodehackathon.backend.helper.UserPrincipal;
 import org.pucodehackathon.backend.security.CookieService;
 import org.pucodehackathon.backend.security.JwtService;
+import org.pucodehackathon.backend.security.PrincipalCache;
+import org.pucodehackathon.backend.security.RefreshTokenRegistry;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -30,7 +34,6 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.Set;
@@ -45,10 +48,11 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final OtpServiceImpl otpService;
     private final AuthenticationManager authenticationManager;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenRegistry refreshTokenRegistry;
     private final JwtService jwtService;
     private final CookieService cookieService;
     private final ModelMapper mapper;
+    private final PrincipalCache principalCache;
 
     @Override
     @Transactional
@@ -109,19 +113,10 @@ public class AuthServiceImpl implements AuthService {
         }
 
         String jti = UUID.randomUUID().toString();
-        var refreshTokenObj = RefreshToken.builder()
-                .jti(jti)
-                .user(user)
-                .createdAt(LocalDateTime.now())
-                .expiresAt(Instant.now().plusSeconds(jwtService.getRefreshTtlSeconds()))
-                .revoked(false)
-                .build();
-
-        refreshTokenRepository.save(refreshTokenObj);
-
+        refreshTokenRegistry.issue(user.getId(), jti, Instant.now().plusSeconds(jwtService.getRefreshTtlSeconds()));
 
         String accessToken = jwtService.generateAccessToken(user);
-        String refreshToken = jwtService.generateRefreshToken(user, refreshTokenObj.getJti());
+        String refreshToken = jwtService.generateRefreshToken(user, jti);
 
         cookieService.attachRefreshCookie(response, refreshToken, (int) jwtService.getAccessTtlSeconds());
         cookieService.addNoStoreHeaders(response);
@@ -134,45 +129,32 @@ public class AuthServiceImpl implements AuthService {
         String refreshToken = readRefreshTokenFromRequest(body, request).orElseThrow(() -> new BadCredentialsException("Refresh token is missing"));
 
 
-        if(!jwtService.isRefreshToken(refreshToken)){
-            throw new BadCredentialsException("Invalid Refresh Token Type");
-        }
-
-        String jti = jwtService.getJti(refreshToken);
-        UUID userId = jwtService.getUserId(refreshToken);
-        RefreshToken storedRefreshToken = refreshTokenRepository.findByJti(jti).orElseThrow(() -> new BadCredentialsException("Refresh token not recognized"));
-
-        if(storedRefreshToken.isRevoked()){
-            throw new BadCredentialsException("Refresh token expired or revoked");
+        // Signature and exp are verified here; only revocation needs a lookup
+        Claims claims;
+        try {
+            claims = jwtService.parse(refreshToken).getPayload();
+        } catch (JwtException ex) {
+            throw new BadCredentialsException("Refresh token expired or invalid");
         }
 
-        if(storedRefreshToken.getExpiresAt().isBefore(Instant.now())){
-            throw new BadCredentialsException("Refresh token expired");
+        if(!"refresh".equals(claims.get("typ"))){
+            throw new BadCredentialsException("Invalid Refresh Token Type");
         }
 
-        if(!storedRefreshToken.getUser().getId().equals(userId)){
-            throw new BadCredentialsException("Refresh token does not belong to this user");
-        }
+        String jti = claims.getId();
+        UUID userId = UUID.fromString(claims.getSubject());
 
         //refresh token ko rotate:
-        storedRefreshToken.setRevoked(true);
         String newJti= UUID.randomUUID().toString();
-        storedRefreshToken.setReplacedByToken(newJti);
-        refreshTokenRepository.save(storedRefreshToken);
-
-        User user = storedRefreshToken.getUser();
+        if(!refreshTokenRegistry.tryRevoke(jti, newJti, claims.getExpiration().toInstant())){
+            throw new BadCredentialsException("Refresh token expired or revoked");
+        }
 
-        var newRefreshTokenOb = RefreshToken.builder()
-                .jti(newJti)
-                .user(user)
-                .createdAt(LocalDateTime.now())
-                .expiresAt(Instant.now().plusSeconds(jwtService.getRefreshTtlSeconds()))
-                .revoked(false)
-                .build();
+        User user = loadUser(userId);
 
-        refreshTokenRepository.save(newRefreshTokenOb);
+        refreshTokenRegistry.issue(user.getId(), newJti, Instant.now().plusSeconds(jwtService.getRefreshTtlSeconds()));
         String newAccessToken= jwtService.generateAccessToken(user);
-        String newRefreshToken = jwtService.generateRefreshToken(user, newRefreshTokenOb.getJti());
+        String newRefreshToken = jwtService.generateRefreshToken(user, newJti);
 
 
         cookieService.attachRefreshCookie(response, newRefreshToken, (int) jwtService.getRefreshTtlSeconds());
@@ -187,12 +169,9 @@ public class AuthServiceImpl implements AuthService {
     public ApiResponse logoutUser(HttpServletRequest request, HttpServletResponse response) {
         readRefreshTokenFromRequest(null, request).ifPresent(token -> {
             try {
-                if (jwtService.isRefreshToken(token)) {
-                    String jti = jwtService.getJti(token);
-                    refreshTokenRepository.findByJti(jti).ifPresent(rt -> {
-                        rt.setRevoked(true);
-                        refreshTokenRepository.save(rt);
-                    });
+                Claims claims = jwtService.parse(token).getPayload();
+                if ("refresh".equals(claims.get("typ"))) {
+                    refreshTokenRegistry.revokeNow(claims.getId(), claims.getExpiration().toInstant());
                 }
             } catch (JwtException ignored) {
             }
@@ -205,6 +184,22 @@ public class AuthServiceImpl implements AuthService {
         return new ApiResponse(true, "Logout User SuccessFully", null);
     }
 
+    // Rotations arrive in bursts on reconnect; most are served from the principal cache
+    private User loadUser(UUID userId) {
+        UserPrincipal cached = principalCache.get(userId);
+        if (cached != null) {
+            return cached.getUser();
+        }
+        long generation = principalCache.generation(userId);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BadCredentialsException("Refresh token does not belong to this user"));
+        if (!user.isEnabled()) {
+            throw new DisabledException("User is Disabled");
+        }
+        principalCache.put(userId, generation, new UserPrincipal(user));
+        return user;
+    }
+
     private Optional<String> readRefreshTokenFromRequest(RefreshTokenRequest body, HttpServletRequest request) {
 //            1. prefer reading refresh token from cookie
         if (request.getCookies() != null) {
@@ -255,6 +250,14 @@ public class AuthServiceImpl implements AuthService {
     private Authentication authenticate(LoginRequestDto requestDto) {
         try {
             return authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(requestDto.getEmail(), requestDto.getPassword()));
+        } catch (ServiceOverloadedException e) {
+            // Not a credentials problem; the client should back off and retry
+            throw e;
+        } catch (InternalAuthenticationServiceException e) {
+            if (e.getCause() instanceof ServiceOverloadedException overloaded) {
+                throw overloaded;
+            }
+            throw new BadCredentialsException("Invalid Username and Password");
         } catch (Exception e) {
             throw new BadCredentialsException("Invalid Username and Password");
         }
@@ -285,6 +288,7 @@ public class AuthServiceImpl implements AuthService {
         user.setEnabled(true);
         user.setEmailVerified(true);
         userRepository.save(user);
+        principalCache.evict(user.getId());
 
         return new ApiResponse(true, "Email Verification is successful and now you can free to login ", null);
     }
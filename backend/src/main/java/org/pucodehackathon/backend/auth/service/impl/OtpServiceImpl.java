@@ -1,23 +1,24 @@
 package org.pucodehackathon.backend.auth.service.impl;
 
 import lombok.RequiredArgsConstructor;
-import org.pucodehackathon.backend.auth.model.OTP;
-import org.pucodehackathon.backend.auth.repositories.OTPRepository;
+import org.pucodehackathon.backend.auth.otp.OtpStore;
+import org.pucodehackathon.backend.auth.service.EmailService;
 import org.pucodehackathon.backend.auth.service.OTPService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.util.Optional;
-import java.util.Random;
+import java.security.SecureRandom;
+import java.time.Duration;
 
 @Service
 @RequiredArgsConstructor
 public class OtpServiceImpl implements OTPService {
 
-    private final EmailServiceImpl emailService;
-    private final OTPRepository otpRepository;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final EmailService emailService;
+    private final OtpStore otpStore;
 
     @Value("${otp.length}")
     private int otpLength;
@@ -27,10 +28,9 @@ public class OtpServiceImpl implements OTPService {
 
     @Override
     public String generateOtp() {
-        Random random = new Random();
         StringBuilder otp = new StringBuilder();
         for (int i = 0; i < otpLength; i++) {
-            otp.append(random.nextInt(10));
+            otp.append(RANDOM.nextInt(10));
         }
         return otp.toString();
     }
@@ -38,20 +38,9 @@ public class OtpServiceImpl implements OTPService {
     @Override
     @Transactional
     public void generateAndSendOtp(String email) {
-        //Delete Otps of the Email
-        otpRepository.deleteOTPByEmail(email);
-
-        //Generate New Otp
+        //Replaces any earlier Otp of the Email
         String otpCode = generateOtp();
-        LocalDateTime expiry = LocalDateTime.now().plusSeconds(otpExpiration / 1000);
-
-        OTP otp = OTP.builder()
-                .email(email)
-                .otpCode(otpCode)
-                .expiryTime(expiry)
-                .build();
-
-        otpRepository.save(otp);
+        otpStore.put(email, otpCode, Duration.ofMillis(otpExpiration));
 
         emailService.sendOTPEmail(email, otpCode);
     }
@@ -59,38 +48,14 @@ public class OtpServiceImpl implements OTPService {
     @Override
     @Transactional
     public void generateAndSendPasswordResetOTP(String email) {
-        otpRepository.deleteOTPByEmail(email);
-
-        //Generate New Otp
         String otpCode = generateOtp();
-        LocalDateTime expiry = LocalDateTime.now().plusSeconds(otpExpiration / 1000);
-
-        OTP otp = OTP.builder()
-                .email(email)
-                .otpCode(otpCode)
-                .expiryTime(expiry)
-                .build();
-
-        otpRepository.save(otp);
+        otpStore.put(email, otpCode, Duration.ofMillis(otpExpiration));
 
         emailService.sendPasswordResetOTPEmail(email, otpCode);
     }
 
     @Override
     public boolean validateOtp(String email, String otp) {
-        Optional<OTP> otp1 = otpRepository.findByEmailAndOtpCodeAndVerifiedFalse(email, otp);
-
-        if (otp1.isEmpty()) return false;
-
-        OTP otp2 = otp1.get();
-
-        if (otp2.getExpiryTime().isBefore(LocalDateTime.now())) {
-            return false;
-        }
-
-        otp2.setVerified(true);
-        otpRepository.save(otp2);
-        return true;
-
+        return otp != null && otpStore.verify(email, otp);
     }
 }
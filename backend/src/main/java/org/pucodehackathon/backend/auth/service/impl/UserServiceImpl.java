@@ -13,6 +13,7 @@ import org.pucodehackathon.backend.auth.service.UserService;
 import org.pucodehackathon.backend.exception.InvalidOtpException;
 import org.pucodehackathon.backend.exception.UserNotFoundException;
 import org.pucodehackathon.backend.helper.UserHelper;
+import org.pucodehackathon.backend.security.PrincipalCache;
 import org.modelmapper.ModelMapper;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -28,6 +29,7 @@ public class UserServiceImpl implements UserService {
     private final ModelMapper mapper;
     private final OtpServiceImpl otpService;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
 
     @Override
@@ -64,6 +66,7 @@ public class UserServiceImpl implements UserService {
         existingUser.setUpdatedAt(LocalDateTime.now());
 
         User updatedUser = userRepository.save(existingUser);
+        principalCache.evict(uId);
 
         return ApiResponse.builder()
                 .success(true)
@@ -87,6 +90,7 @@ public class UserServiceImpl implements UserService {
 
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
+        principalCache.evict(user.getId());
 
         return new ApiResponse(true,
                 "Password reset successful! Please login with your new password.",
@@ -108,6 +112,7 @@ public class UserServiceImpl implements UserService {
         UUID uId = UserHelper.parseUUID(userId);
         User user = userRepository.findById(uId).orElseThrow(() -> new UserNotFoundException("User not found with given id"));
         userRepository.delete(user);
+        principalCache.evict(uId);
     }
 
     @Override
@@ -1,21 +1,30 @@
 package org.pucodehackathon.backend.auth.service.impl;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.pucodehackathon.backend.auth.dto.userDto.CategoryWithProductsDto;
 import org.pucodehackathon.backend.auth.dto.userDto.ProductItemDto;
 import org.pucodehackathon.backend.auth.dto.userDto.VendorBasicDto;
 import org.pucodehackathon.backend.auth.dto.userDto.VendorCatalogResponseDto;
 import org.pucodehackathon.backend.auth.service.UserVendorCatalogService;
+import org.pucodehackathon.backend.product.cache.VendorCatalogCache;
+import org.pucodehackathon.backend.product.model.Product;
 import org.pucodehackathon.backend.product.repositories.CategoryRepository;
 import org.pucodehackathon.backend.product.repositories.ProductRepository;
 import org.pucodehackathon.backend.vendor.model.Vendor;
 import org.pucodehackathon.backend.vendor.model.VerificationStatus;
 import org.pucodehackathon.backend.vendor.repositories.VendorRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +34,35 @@ public class UserVendorCatalogServiceImpl implements UserVendorCatalogService {
     private final VendorRepository vendorRepository;
     private final CategoryRepository categoryRepository;
     private final ProductRepository productRepository;
+    private final VendorCatalogCache catalogCache;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    // No transaction: a cached snapshot is served without touching the connection pool
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public VendorCatalogCache.CatalogSnapshot getVendorCatalogSnapshot(UUID vendorId) {
+        VendorCatalogCache.CatalogSnapshot cached = catalogCache.get(vendorId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = catalogCache.version(vendorId);
+        // One transaction, so vendor, categories and products come from the same snapshot;
+        // a self-call would bypass the proxy and read them in separate transactions
+        VendorCatalogResponseDto catalog = readOnlyTransaction.execute(status -> getVendorCatalog(vendorId));
+        byte[] body = objectMapper.writeValueAsBytes(catalog);
+        // put() compares the version again and only stores the body if no write landed during the build
+        return catalogCache.put(vendorId, version, body);
+    }
 
     @Override
     public VendorCatalogResponseDto getVendorCatalog(UUID vendorId) {
@@ -43,33 +81,22 @@ public class UserVendorCatalogServiceImpl implements UserVendorCatalogService {
                 .rating(vendor.getRatingAvg().toBigInteger().doubleValue())
                 .build();
 
+        Map<UUID, List<ProductItemDto>> productsByCategory = productRepository
+                .findByVendor_VendorIdAndIsAvailableTrue(vendorId)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        p -> p.getCategory().getCategoryId(),
+                        Collectors.mapping(this::toProductItem, Collectors.toList())
+                ));
+
         List<CategoryWithProductsDto> categories = categoryRepository
                 .findByVendor_VendorIdAndIsActiveTrue(vendorId)
                 .stream()
-                .map(category -> {
-
-                    List<ProductItemDto> products = productRepository
-                            .findByVendor_VendorIdAndCategory_CategoryIdAndIsAvailableTrue(
-                                    vendorId,
-                                    category.getCategoryId()
-                            )
-                            .stream()
-                            .map(p -> ProductItemDto.builder()
-                                    .productId(p.getProductId())
-                                    .name(p.getName())
-                                    .description(p.getDescription())
-                                    .price(p.getPrice())
-                                    .stock(p.getStock())
-                                    .isAvailable(p.getIsAvailable())
-                                    .build())
-                            .toList();
-
-                    return CategoryWithProductsDto.builder()
-                            .categoryId(category.getCategoryId())
-                            .categoryName(category.getName())
-                            .products(products)
-                            .build();
-                })
+                .map(category -> CategoryWithProductsDto.builder()
+                        .categoryId(category.getCategoryId())
+                        .categoryName(category.getName())
+                        .products(productsByCategory.getOrDefault(category.getCategoryId(), List.of()))
+                        .build())
                 .toList();
 
         return VendorCatalogResponseDto.builder()
@@ -77,4 +104,15 @@ public class UserVendorCatalogServiceImpl implements UserVendorCatalogService {
                 .categories(categories)
                 .build();
     }
+
+    private ProductItemDto toProductItem(Product p) {
+        return ProductItemDto.builder()
+                .productId(p.getProductId())
+                .name(p.getName())
+                .description(p.getDescription())
+                .price(p.getPrice())
+                .stock(p.getStock())
+                .isAvailable(p.getIsAvailable())
+                .build();
+    }
 }
@@ -0,0 +1,32 @@
+package org.pucodehackathon.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpatialIndexInitializer implements CommandLineRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        // Hibernate cannot declare SPATIAL indexes, so fresh schemas get it here
+        Integer existing = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE()
+                  AND table_name = 'vendor_location'
+                  AND index_name = 'idx_vendor_location_geo_point'
+                """, Integer.class);
+
+        if (existing != null && existing == 0) {
+            jdbcTemplate.execute(
+                    "CREATE SPATIAL INDEX idx_vendor_location_geo_point ON vendor_location (geo_point)");
+            log.info("Created spatial index idx_vendor_location_geo_point");
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.pucodehackathon.backend.exception.product_exception.CategoryNotFoundE
 import org.pucodehackathon.backend.exception.product_exception.ProductNotFoundException;
 import org.pucodehackathon.backend.exception.vendor_exceptions.VendorAlreadyVerifiedException;
 import org.pucodehackathon.backend.exception.vendor_exceptions.VendorNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -147,4 +148,30 @@ public class GlobalExceptionHandler {
         return  new ResponseEntity<>(error , HttpStatus.BAD_REQUEST);
 
     }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException ex , WebRequest request){
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=" , "")
+        );
+        return  new ResponseEntity<>(error , HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloadedException(ServiceOverloadedException ex , WebRequest request){
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=" , "")
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
 }
@@ -0,0 +1,42 @@
+package org.pucodehackathon.backend.helper;
+
+import org.pucodehackathon.backend.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque position in a list ranked by (score DESC, id ASC). The next page is
+ * everything strictly after the last row of the previous one.
+ */
+public record ScoreCursor(double score, UUID id) {
+
+    public String encode() {
+        String raw = score + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // True when the row ranks after this position, i.e. belongs on a later page
+    public boolean precedes(double otherScore, UUID otherId) {
+        int byScore = Double.compare(otherScore, score);
+        return byScore < 0 || (byScore == 0 && otherId.compareTo(id) > 0);
+    }
+
+    // Null or blank means the first page
+    public static ScoreCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new ScoreCursor(
+                    Double.parseDouble(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+}
@@ -1,4 +0,0 @@
-package org.pucodehackathon.backend.order.controller;
-
-public class UserOrderTrackingControlle {
-}
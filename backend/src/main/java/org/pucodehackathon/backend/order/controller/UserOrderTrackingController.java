@@ -0,0 +1,52 @@
+package org.pucodehackathon.backend.order.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.pucodehackathon.backend.helper.CursorPage;
+import org.pucodehackathon.backend.helper.UserPrincipal;
+import org.pucodehackathon.backend.order.dto.order.OrderTrackingResponseDto;
+import org.pucodehackathon.backend.order.dto.order.UserOrderSummaryDto;
+import org.pucodehackathon.backend.order.model.OrderStatus;
+import org.pucodehackathon.backend.order.service.UserOrderTrackingService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/user/orders")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('USER')")
+public class UserOrderTrackingController {
+
+    private final UserOrderTrackingService trackingService;
+
+    @GetMapping("/history")
+    public ResponseEntity<CursorPage<UserOrderSummaryDto>> history(
+            Authentication auth,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        UserPrincipal principal = (UserPrincipal) auth.getPrincipal();
+        return ResponseEntity.ok(
+                trackingService.listUserOrders(principal.getUser().getId(), status, cursor, size)
+        );
+    }
+
+    @GetMapping("/{orderId}/track")
+    public ResponseEntity<OrderTrackingResponseDto> track(
+            Authentication auth,
+            @PathVariable UUID orderId
+    ) {
+        UserPrincipal principal = (UserPrincipal) auth.getPrincipal();
+        return ResponseEntity.ok(
+                trackingService.trackOrder(principal.getUser().getId(), orderId)
+        );
+    }
+}
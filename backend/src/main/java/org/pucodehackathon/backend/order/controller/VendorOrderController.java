@@ -2,8 +2,10 @@ package org.pucodehackathon.backend.order.controller;
 
 
 import lombok.RequiredArgsConstructor;
+import org.pucodehackathon.backend.helper.CursorPage;
 import org.pucodehackathon.backend.helper.UserPrincipal;
 import org.pucodehackathon.backend.order.dto.order.*;
+import org.pucodehackathon.backend.order.model.OrderStatus;
 import org.pucodehackathon.backend.order.service.OrderService;
 import org.pucodehackathon.backend.order.service.UserOrderService;
 import org.pucodehackathon.backend.order.service.VendorOrderService;
@@ -12,7 +14,6 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -25,10 +26,22 @@ public class VendorOrderController {
     private final UserOrderService userOrderService;
 
     @GetMapping
-    public ResponseEntity<List<OrderResponseDto>> getOrders(Authentication auth) {
+    public ResponseEntity<CursorPage<OrderResponseDto>> getOrders(
+            Authentication auth,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(defaultValue = "false") boolean activeOnly,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
         UserPrincipal principal = (UserPrincipal) auth.getPrincipal();
         return ResponseEntity.ok(
-                vendorOrderService.getVendorOrders(principal.getUser().getId())
+                vendorOrderService.getVendorOrders(
+                        principal.getUser().getId(),
+                        status,
+                        activeOnly,
+                        cursor,
+                        size
+                )
         );
     }
 
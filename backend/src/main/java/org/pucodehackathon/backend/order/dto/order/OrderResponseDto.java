@@ -5,6 +5,7 @@ import lombok.Getter;
 import org.pucodehackathon.backend.order.model.OrderStatus;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,5 +22,6 @@ public class OrderResponseDto {
     private String phoneNumber;
     private Double deliveryLatitude;
     private Double deliveryLongitude;
+    private LocalDateTime createdAt;
     private List<OrderItemDto> items;
 }
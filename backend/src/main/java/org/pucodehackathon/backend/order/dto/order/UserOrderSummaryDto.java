@@ -1,5 +1,6 @@
 package org.pucodehackathon.backend.order.dto.order;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import org.pucodehackathon.backend.order.model.OrderStatus;
@@ -10,6 +11,7 @@ import java.util.UUID;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class UserOrderSummaryDto {
     private UUID orderId;
     private String vendorName;
@@ -13,7 +13,14 @@ import java.util.UUID;
 
 
 @Entity
-@Table(name = "orders")
+@Table(
+        name = "orders",
+        indexes = {
+                @Index(name = "idx_orders_user_created", columnList = "user_id, created_at, order_id"),
+                @Index(name = "idx_orders_vendor_created", columnList = "vendor_id, created_at, order_id"),
+                @Index(name = "idx_orders_vendor_status_created", columnList = "vendor_id, status, created_at")
+        }
+)
 @Getter
 @Setter
 @AllArgsConstructor
@@ -39,6 +46,9 @@ public class Order {
 
     private BigDecimal totalAmount;
 
+    // Null for orders placed before stock was reserved at placement
+    private Boolean stockReserved;
+
     // Delivery details
     private String societyName;
     private String houseNumber;
@@ -1,19 +1,119 @@
 package org.pucodehackathon.backend.order.repository;
 
+import jakarta.persistence.LockModeType;
 import org.pucodehackathon.backend.order.model.Order;
 import org.pucodehackathon.backend.order.model.OrderStatus;
+import org.pucodehackathon.backend.order.dto.order.UserOrderSummaryDto;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface OrderRepository extends JpaRepository<Order, UUID> {
     List<Order> findByUser_Id(UUID userId);
 
-    Collection<Object> findByVendor_VendorId(UUID vendorId);
-
     Page<Order> findByUser_IdAndStatus(UUID userId, OrderStatus status, Pageable pageable);
-}
\ No newline at end of file
+
+    // Serializes accept/reject on one order so its stock is reserved or released once
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.orderId = :orderId")
+    Optional<Order> findByIdForUpdate(@Param("orderId") UUID orderId);
+
+    // User history, newest first; both queries seek on (user_id, created_at, order_id)
+    @Query("""
+            SELECT new org.pucodehackathon.backend.order.dto.order.UserOrderSummaryDto(
+                o.orderId, v.businessName, o.status, o.totalAmount, o.createdAt)
+            FROM Order o JOIN o.vendor v
+            WHERE o.user.id = :userId
+              AND (:status IS NULL OR o.status = :status)
+            ORDER BY o.createdAt DESC, o.orderId DESC
+            """)
+    List<UserOrderSummaryDto> findUserOrderHistory(
+            @Param("userId") UUID userId,
+            @Param("status") OrderStatus status,
+            Limit limit
+    );
+
+    @Query("""
+            SELECT new org.pucodehackathon.backend.order.dto.order.UserOrderSummaryDto(
+                o.orderId, v.businessName, o.status, o.totalAmount, o.createdAt)
+            FROM Order o JOIN o.vendor v
+            WHERE o.user.id = :userId
+              AND (:status IS NULL OR o.status = :status)
+              AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.orderId < :orderId))
+            ORDER BY o.createdAt DESC, o.orderId DESC
+            """)
+    List<UserOrderSummaryDto> findUserOrderHistoryAfter(
+            @Param("userId") UUID userId,
+            @Param("status") OrderStatus status,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("orderId") UUID orderId,
+            Limit limit
+    );
+
+    // Vendor inbox, newest first. Status-filtered pages seek on (vendor_id, status, created_at),
+    // unfiltered ones on (vendor_id, created_at, order_id); items are fetched separately by id.
+    @Query("""
+            SELECT o.orderId FROM Order o
+            WHERE o.vendor.vendorId = :vendorId
+            ORDER BY o.createdAt DESC, o.orderId DESC
+            """)
+    List<UUID> findVendorInboxIds(@Param("vendorId") UUID vendorId, Limit limit);
+
+    @Query("""
+            SELECT o.orderId FROM Order o
+            WHERE o.vendor.vendorId = :vendorId
+              AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.orderId < :orderId))
+            ORDER BY o.createdAt DESC, o.orderId DESC
+            """)
+    List<UUID> findVendorInboxIdsAfter(
+            @Param("vendorId") UUID vendorId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("orderId") UUID orderId,
+            Limit limit
+    );
+
+    @Query("""
+            SELECT o.orderId FROM Order o
+            WHERE o.vendor.vendorId = :vendorId
+              AND o.status IN :statuses
+            ORDER BY o.createdAt DESC, o.orderId DESC
+            """)
+    List<UUID> findVendorInboxIdsByStatus(
+            @Param("vendorId") UUID vendorId,
+            @Param("statuses") Collection<OrderStatus> statuses,
+            Limit limit
+    );
+
+    @Query("""
+            SELECT o.orderId FROM Order o
+            WHERE o.vendor.vendorId = :vendorId
+              AND o.status IN :statuses
+              AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.orderId < :orderId))
+            ORDER BY o.createdAt DESC, o.orderId DESC
+            """)
+    List<UUID> findVendorInboxIdsByStatusAfter(
+            @Param("vendorId") UUID vendorId,
+            @Param("statuses") Collection<OrderStatus> statuses,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("orderId") UUID orderId,
+            Limit limit
+    );
+
+    @Query("""
+            SELECT DISTINCT o FROM Order o
+            LEFT JOIN FETCH o.items i
+            LEFT JOIN FETCH i.product
+            WHERE o.orderId IN :orderIds
+            """)
+    List<Order> findWithItemsByOrderIdIn(@Param("orderIds") Collection<UUID> orderIds);
+}
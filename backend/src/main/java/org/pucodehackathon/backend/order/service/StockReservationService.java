@@ -0,0 +1,12 @@
+package org.pucodehackathon.backend.order.service;
+
+import org.pucodehackathon.backend.order.model.OrderItem;
+
+import java.util.List;
+
+public interface StockReservationService {
+
+    void reserve(List<OrderItem> items);
+
+    void release(List<OrderItem> items);
+}
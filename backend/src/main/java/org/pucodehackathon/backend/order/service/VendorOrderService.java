@@ -1,9 +1,10 @@
 package org.pucodehackathon.backend.order.service;
 
+import org.pucodehackathon.backend.helper.CursorPage;
 import org.pucodehackathon.backend.order.dto.order.OrderResponseDto;
 import org.pucodehackathon.backend.order.dto.order.VendorOrderActionResponseDto;
+import org.pucodehackathon.backend.order.model.OrderStatus;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface VendorOrderService {
@@ -12,5 +13,12 @@ public interface VendorOrderService {
 
     VendorOrderActionResponseDto rejectOrder(UUID userId, UUID orderId, String reason);
 
-    List<OrderResponseDto> getVendorOrders(UUID userId);
+    // status takes precedence over activeOnly when both are given
+    CursorPage<OrderResponseDto> getVendorOrders(
+            UUID userId,
+            OrderStatus status,
+            boolean activeOnly,
+            String cursor,
+            int size
+    );
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package org.pucodehackathon.backend.order.service.impl;
 
 
 import lombok.RequiredArgsConstructor;
+import org.pucodehackathon.backend.admin.cache.DashboardMetrics;
 import org.pucodehackathon.backend.auth.model.User;
 import org.pucodehackathon.backend.auth.repositories.UserRepository;
 import org.pucodehackathon.backend.order.dto.cart.AddToCartRequestDto;
@@ -19,6 +20,8 @@ import org.pucodehackathon.backend.order.repository.CartRepository;
 import org.pucodehackathon.backend.order.repository.OrderRepository;
 import org.pucodehackathon.backend.order.service.CartService;
 import org.pucodehackathon.backend.order.service.OrderService;
+import org.pucodehackathon.backend.order.service.StockReservationService;
+import org.pucodehackathon.backend.product.cache.VendorCatalogCache;
 import org.pucodehackathon.backend.product.model.Product;
 import org.pucodehackathon.backend.product.repositories.ProductRepository;
 import org.pucodehackathon.backend.vendor.model.Vendor;
@@ -39,6 +42,9 @@ public class OrderServiceImpl implements OrderService {
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final StockReservationService stockReservationService;
+    private final VendorCatalogCache catalogCache;
+    private final DashboardMetrics dashboardMetrics;
 
     @Override
     public OrderResponseDto placeOrder(UUID userId, PlaceOrderRequestDto request) {
@@ -51,7 +57,7 @@ public class OrderServiceImpl implements OrderService {
 
         Vendor vendor = cart.getVendor();
 
-        // Re-validate stock
+        // Fast fail on the cached view; the reservation below is authoritative
         for (CartItem item : cart.getItems()) {
             Product product = item.getProduct();
             if (!product.getIsAvailable() || product.getStock() < item.getQuantity()) {
@@ -115,12 +121,18 @@ public class OrderServiceImpl implements OrderService {
         }
 
         order.setTotalAmount(total);
+        order.setStockReserved(true);
 
-        orderRepository.save(order);
+        orderRepository.saveAndFlush(order);
 
         // Clear cart
         cartRepository.delete(cart);
 
+        // Last statement before commit so hot product rows stay locked as briefly as possible
+        stockReservationService.reserve(order.getItems());
+        catalogCache.bump(vendor.getVendorId());
+        dashboardMetrics.orderPlaced(order);
+
         return mapToResponse(order);
     }
 
@@ -144,6 +156,7 @@ public class OrderServiceImpl implements OrderService {
                 .phoneNumber(order.getPhoneNumber())
                 .deliveryLatitude(order.getDeliveryLatitude())
                 .deliveryLongitude(order.getDeliveryLongitude())
+                .createdAt(order.getCreatedAt())
                 .items(
                         order.getItems().stream()
                                 .map(i -> OrderItemDto.builder()
@@ -0,0 +1,113 @@
+package org.pucodehackathon.backend.order.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.pucodehackathon.backend.order.model.OrderItem;
+import org.pucodehackathon.backend.order.service.StockReservationService;
+import org.pucodehackathon.backend.product.model.Product;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Reserves order stock with conditional in-place decrements instead of
+ * read-modify-write through JPA. Rows are touched in product id order so two
+ * orders sharing products lock them in the same sequence and cannot deadlock;
+ * the caller's transaction rolls back every decrement if one product is short.
+ * A product counts as reserved only when its update reports exactly one row;
+ * if the driver answers the batch with SUCCESS_NO_INFO the batch is undone to
+ * a savepoint and the rows are reserved one statement at a time instead.
+ */
+@Service
+@RequiredArgsConstructor
+public class StockReservationServiceImpl implements StockReservationService {
+
+    private static final String RESERVE_SQL = """
+            UPDATE vendor_product
+            SET stock = stock - ?
+            WHERE product_id = UUID_TO_BIN(?) AND stock >= ?
+            """;
+
+    private static final String RELEASE_SQL = """
+            UPDATE vendor_product
+            SET stock = stock + ?
+            WHERE product_id = UUID_TO_BIN(?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(List<OrderItem> items) {
+        Map<UUID, Integer> quantities = quantitiesByProduct(items);
+        List<UUID> productIds = new ArrayList<>(quantities.keySet());
+
+        List<Object[]> args = new ArrayList<>(productIds.size());
+        for (UUID productId : productIds) {
+            int quantity = quantities.get(productId);
+            args.add(new Object[]{quantity, productId.toString(), quantity});
+        }
+
+        Savepoint savepoint = jdbcTemplate.execute((ConnectionCallback<Savepoint>) Connection::setSavepoint);
+        int[] updated = jdbcTemplate.batchUpdate(RESERVE_SQL, args);
+
+        if (Arrays.stream(updated).anyMatch(count -> count == Statement.SUCCESS_NO_INFO)) {
+            // No per-row counts, so it is unknown which products were decremented
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                connection.rollback(savepoint);
+                return null;
+            });
+            updated = new int[args.size()];
+            for (int i = 0; i < args.size(); i++) {
+                updated[i] = jdbcTemplate.update(RESERVE_SQL, args.get(i));
+            }
+        }
+
+        for (int i = 0; i < productIds.size(); i++) {
+            if (i >= updated.length || updated[i] != 1) {
+                throw new IllegalStateException(
+                        "Insufficient stock for product: " + productName(items, productIds.get(i))
+                );
+            }
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(List<OrderItem> items) {
+        List<Object[]> args = new ArrayList<>();
+        quantitiesByProduct(items).forEach((productId, quantity) ->
+                args.add(new Object[]{quantity, productId.toString()}));
+
+        jdbcTemplate.batchUpdate(RELEASE_SQL, args);
+    }
+
+    // One row per product, sorted so every order locks rows in the same sequence
+    private static Map<UUID, Integer> quantitiesByProduct(List<OrderItem> items) {
+        Map<UUID, Integer> quantities = new TreeMap<>();
+        for (OrderItem item : items) {
+            quantities.merge(item.getProduct().getProductId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    private static String productName(List<OrderItem> items, UUID productId) {
+        return items.stream()
+                .map(OrderItem::getProduct)
+                .filter(product -> product.getProductId().equals(productId))
+                .map(Product::getName)
+                .findFirst()
+                .orElse(productId.toString());
+    }
+}
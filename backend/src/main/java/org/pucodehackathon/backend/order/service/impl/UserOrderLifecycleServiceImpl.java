@@ -1,6 +1,7 @@
 package org.pucodehackathon.backend.order.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.pucodehackathon.backend.admin.cache.DashboardMetrics;
 import org.pucodehackathon.backend.order.dto.order.OrderStatusUpdateResponseDto;
 import org.pucodehackathon.backend.order.model.Order;
 import org.pucodehackathon.backend.order.model.OrderStatus;
@@ -18,6 +19,7 @@ import java.util.UUID;
 public class UserOrderLifecycleServiceImpl implements UserOrderLifecycleService {
 
     private final OrderRepository orderRepository;
+    private final DashboardMetrics dashboardMetrics;
 
     @Override
     public OrderStatusUpdateResponseDto completeOrder(UUID userId, UUID orderId) {
@@ -35,6 +37,7 @@ public class UserOrderLifecycleServiceImpl implements UserOrderLifecycleService
 
         order.setStatus(OrderStatus.COMPLETED);
         orderRepository.save(order);
+        dashboardMetrics.orderMoved(order, OrderStatus.DELIVERED);
 
         return OrderStatusUpdateResponseDto.builder()
                 .orderId(order.getOrderId())
@@ -3,6 +3,8 @@ package org.pucodehackathon.backend.order.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import org.pucodehackathon.backend.auth.model.User;
+import org.pucodehackathon.backend.helper.CursorPage;
+import org.pucodehackathon.backend.helper.KeysetCursor;
 import org.pucodehackathon.backend.order.dto.order.OrderTimelineEventDto;
 import org.pucodehackathon.backend.order.dto.order.OrderTrackingResponseDto;
 import org.pucodehackathon.backend.order.dto.order.UserOrderSummaryDto;
@@ -10,8 +12,7 @@ import org.pucodehackathon.backend.order.model.Order;
 import org.pucodehackathon.backend.order.model.OrderStatus;
 import org.pucodehackathon.backend.order.repository.OrderRepository;
 import org.pucodehackathon.backend.order.service.UserOrderTrackingService;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,32 +28,27 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class UserOrderTrackingServiceImpl implements UserOrderTrackingService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
 
     @Override
-    public Page<UserOrderSummaryDto> listUserOrders(
+    public CursorPage<UserOrderSummaryDto> listUserOrders(
             UUID userId,
             OrderStatus status,
-            Pageable pageable
+            String cursor,
+            int size
     ) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        KeysetCursor after = KeysetCursor.decode(cursor);
 
-        Page<Order> page;
-
-        if (status != null) {
-            List<Order> orders = (List<Order>) orderRepository.findByUser_IdAndStatus(userId, status ,pageable);
-            page = new org.springframework.data.domain.PageImpl<>(orders, pageable, orders.size());
-        } else {
-            List<Order> orders = orderRepository.findByUser_Id(userId);
-            page = new org.springframework.data.domain.PageImpl<>(orders, pageable, orders.size());
-        }
+        // One extra row tells whether another page exists without a count query
+        List<UserOrderSummaryDto> rows = after == null
+                ? orderRepository.findUserOrderHistory(userId, status, Limit.of(pageSize + 1))
+                : orderRepository.findUserOrderHistoryAfter(
+                        userId, status, after.createdAt(), after.id(), Limit.of(pageSize + 1));
 
-        return page.map(o -> UserOrderSummaryDto.builder()
-                .orderId(o.getOrderId())
-                .vendorName(o.getVendor().getBusinessName())
-                .status(o.getStatus())
-                .totalAmount(o.getTotalAmount())
-                .createdAt(o.getCreatedAt())
-                .build());
+        return CursorPage.of(rows, pageSize, o -> new KeysetCursor(o.getCreatedAt(), o.getOrderId()));
     }
 
     @Override
@@ -1,6 +1,7 @@
 package org.pucodehackathon.backend.order.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.pucodehackathon.backend.admin.cache.DashboardMetrics;
 import org.pucodehackathon.backend.exception.vendor_exceptions.VendorNotFoundException;
 import org.pucodehackathon.backend.order.dto.order.OrderStatusUpdateResponseDto;
 import org.pucodehackathon.backend.order.model.Order;
@@ -22,6 +23,7 @@ public class VendorOrderLifecycleServiceImpl implements VendorOrderLifecycleServ
 
     private final VendorRepository vendorRepository;
     private final OrderRepository orderRepository;
+    private final DashboardMetrics dashboardMetrics;
 
     @Override
     public OrderStatusUpdateResponseDto markOutForDelivery(UUID userId, UUID orderId) {
@@ -34,6 +36,7 @@ public class VendorOrderLifecycleServiceImpl implements VendorOrderLifecycleServ
 
         order.setStatus(OrderStatus.OUT_FOR_DELIVERY);
         orderRepository.save(order);
+        dashboardMetrics.orderMoved(order, OrderStatus.ACCEPTED);
 
         return response(order, "Order is out for delivery");
     }
@@ -49,6 +52,7 @@ public class VendorOrderLifecycleServiceImpl implements VendorOrderLifecycleServ
 
         order.setStatus(OrderStatus.DELIVERED);
         orderRepository.save(order);
+        dashboardMetrics.orderMoved(order, OrderStatus.OUT_FOR_DELIVERY);
 
         return response(order, "Order delivered successfully");
     }
@@ -1,38 +1,54 @@
 package org.pucodehackathon.backend.order.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.pucodehackathon.backend.admin.cache.DashboardMetrics;
 import org.pucodehackathon.backend.exception.vendor_exceptions.VendorNotFoundException;
+import org.pucodehackathon.backend.helper.CursorPage;
+import org.pucodehackathon.backend.helper.KeysetCursor;
 import org.pucodehackathon.backend.order.dto.order.OrderItemDto;
 import org.pucodehackathon.backend.order.dto.order.OrderResponseDto;
 import org.pucodehackathon.backend.order.dto.order.VendorOrderActionResponseDto;
 import org.pucodehackathon.backend.order.model.Order;
-import org.pucodehackathon.backend.order.model.OrderItem;
 import org.pucodehackathon.backend.order.model.OrderStatus;
 import org.pucodehackathon.backend.order.repository.OrderRepository;
+import org.pucodehackathon.backend.order.service.StockReservationService;
 import org.pucodehackathon.backend.order.service.VendorOrderService;
-import org.pucodehackathon.backend.product.model.Product;
-import org.pucodehackathon.backend.product.repositories.ProductRepository;
+import org.pucodehackathon.backend.product.cache.VendorCatalogCache;
 import org.pucodehackathon.backend.vendor.model.Vendor;
 import org.pucodehackathon.backend.vendor.model.VendorLocation;
 import org.pucodehackathon.backend.vendor.repositories.VendorLocationRepository;
 import org.pucodehackathon.backend.vendor.repositories.VendorRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class VendorOrderServiceImpl implements VendorOrderService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final Set<OrderStatus> ACTIVE_STATUSES =
+            EnumSet.of(OrderStatus.PLACED, OrderStatus.ACCEPTED, OrderStatus.OUT_FOR_DELIVERY);
+
     private final VendorRepository vendorRepository;
     private final OrderRepository orderRepository;
-    private final ProductRepository productRepository;
+    private final DashboardMetrics dashboardMetrics;
     private final VendorLocationRepository vendorLocationRepository;
+    private final VendorCatalogCache catalogCache;
+    private final StockReservationService stockReservationService;
 
     @Override
     public VendorOrderActionResponseDto acceptOrder(UUID userId, UUID orderId) {
@@ -44,23 +60,17 @@ public class VendorOrderServiceImpl implements VendorOrderService {
             throw new IllegalStateException("Order cannot be accepted");
         }
 
-        // Deduct stock
-        for (OrderItem item : order.getItems()) {
-            Product product = item.getProduct();
-
-            if (product.getStock() < item.getQuantity()) {
-                throw new IllegalStateException(
-                        "Insufficient stock for product: " + product.getName()
-                );
-            }
-
-            product.setStock(product.getStock() - item.getQuantity());
-            productRepository.save(product);
+        // Stock is reserved at placement; older orders still deduct here
+        if (!Boolean.TRUE.equals(order.getStockReserved())) {
+            stockReservationService.reserve(order.getItems());
+            order.setStockReserved(true);
+            catalogCache.bump(vendor.getVendorId());
         }
 
         order.setStatus(OrderStatus.ACCEPTED);
         order.setAcceptedAt(java.time.LocalDateTime.now());
         orderRepository.save(order);
+        dashboardMetrics.orderMoved(order, OrderStatus.PLACED);
 
         // Get vendor location for map
         VendorLocation location = vendorLocationRepository.findByVendor_VendorIdAndIsPrimaryTrue(vendor.getVendorId())
@@ -88,8 +98,15 @@ public class VendorOrderServiceImpl implements VendorOrderService {
             throw new IllegalStateException("Order cannot be rejected");
         }
 
+        if (Boolean.TRUE.equals(order.getStockReserved())) {
+            stockReservationService.release(order.getItems());
+            order.setStockReserved(false);
+            catalogCache.bump(vendor.getVendorId());
+        }
+
         order.setStatus(OrderStatus.REJECTED);
         orderRepository.save(order);
+        dashboardMetrics.orderMoved(order, OrderStatus.PLACED);
 
         return VendorOrderActionResponseDto.builder()
                 .orderId(order.getOrderId())
@@ -99,14 +116,57 @@ public class VendorOrderServiceImpl implements VendorOrderService {
     }
 
     @Override
-    public List<OrderResponseDto> getVendorOrders(UUID userId) {
+    @Transactional(readOnly = true)
+    public CursorPage<OrderResponseDto> getVendorOrders(
+            UUID userId,
+            OrderStatus status,
+            boolean activeOnly,
+            String cursor,
+            int size
+    ) {
 
         Vendor vendor = getVendor(userId);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Set<OrderStatus> statuses = status != null
+                ? EnumSet.of(status)
+                : activeOnly ? ACTIVE_STATUSES : null;
+
+        List<UUID> orderIds = findInboxIds(vendor.getVendorId(), statuses, after, Limit.of(pageSize + 1));
+        if (orderIds.isEmpty()) {
+            return new CursorPage<>(List.of(), null, false);
+        }
 
-        return orderRepository.findByVendor_VendorId(vendor.getVendorId())
+        // Items and products for the whole page in one query, then back into inbox order
+        Map<UUID, Order> orders = orderRepository.findWithItemsByOrderIdIn(orderIds)
                 .stream()
-                .map(o -> mapToResponse((Order) o))
+                .collect(Collectors.toMap(Order::getOrderId, Function.identity()));
+
+        List<Order> page = orderIds.stream()
+                .map(orders::get)
+                .filter(Objects::nonNull)
                 .toList();
+
+        CursorPage<Order> window = CursorPage.of(
+                page, pageSize, o -> new KeysetCursor(o.getCreatedAt(), o.getOrderId()));
+
+        return new CursorPage<>(
+                window.getItems().stream().map(this::mapToResponse).toList(),
+                window.getNextCursor(),
+                window.isHasMore()
+        );
+    }
+
+    private List<UUID> findInboxIds(UUID vendorId, Set<OrderStatus> statuses, KeysetCursor after, Limit limit) {
+        if (statuses == null) {
+            return after == null
+                    ? orderRepository.findVendorInboxIds(vendorId, limit)
+                    : orderRepository.findVendorInboxIdsAfter(vendorId, after.createdAt(), after.id(), limit);
+        }
+        return after == null
+                ? orderRepository.findVendorInboxIdsByStatus(vendorId, statuses, limit)
+                : orderRepository.findVendorInboxIdsByStatusAfter(
+                        vendorId, statuses, after.createdAt(), after.id(), limit);
     }
 
     // 🔒 Helpers
@@ -117,7 +177,7 @@ public class VendorOrderServiceImpl implements VendorOrderService {
     }
 
     private Order getVendorOrder(Vendor vendor, UUID orderId) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
 
         if (!order.getVendor().getVendorId().equals(vendor.getVendorId())) {
@@ -139,6 +199,7 @@ public class VendorOrderServiceImpl implements VendorOrderService {
                 .phoneNumber(order.getPhoneNumber())
                 .deliveryLatitude(order.getDeliveryLatitude())
                 .deliveryLongitude(order.getDeliveryLongitude())
+                .createdAt(order.getCreatedAt())
                 .items(
                         order.getItems().stream()
                                 .map(i -> OrderItemDto.builder()
@@ -0,0 +1,91 @@
+package org.pucodehackathon.backend.product.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pre-serialized vendor catalog snapshots. Every product, category or image
+ * write bumps the vendor's catalog version; a snapshot is only served while
+ * its version is current, and only stored if no bump happened while it was
+ * being built. Snapshots are kept in least-recently-used order and the
+ * coldest is evicted once {@code max-vendors} are cached.
+ */
+@Component
+public class VendorCatalogCache {
+
+    // Only vendors that have been written to get an entry; everyone else is at version 0
+    private final ConcurrentHashMap<UUID, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    @Value("${app.catalog.cache.max-vendors:10000}")
+    private int maxVendors;
+
+    private final Map<UUID, CatalogSnapshot> snapshots = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, CatalogSnapshot> eldest) {
+                    return size() > maxVendors;
+                }
+            });
+
+    public record CatalogSnapshot(long version, String etag, byte[] body) {
+    }
+
+    public CatalogSnapshot get(UUID vendorId) {
+        CatalogSnapshot snapshot = snapshots.get(vendorId);
+        return snapshot != null && snapshot.version() == version(vendorId) ? snapshot : null;
+    }
+
+    // Read before loading from the database and hand back to put()
+    public long version(UUID vendorId) {
+        AtomicLong version = versions.get(vendorId);
+        return version != null ? version.get() : 0L;
+    }
+
+    public CatalogSnapshot put(UUID vendorId, long version, byte[] body) {
+        CatalogSnapshot snapshot = new CatalogSnapshot(version, etagOf(body), body);
+        snapshots.compute(vendorId, (id, current) -> version == version(id) ? snapshot : current);
+        return snapshot;
+    }
+
+    // Bumps after the surrounding transaction commits so readers cannot re-cache the old rows
+    public void bump(UUID vendorId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpNow(vendorId);
+                }
+            });
+        } else {
+            bumpNow(vendorId);
+        }
+    }
+
+    private void bumpNow(UUID vendorId) {
+        versions.computeIfAbsent(vendorId, id -> new AtomicLong()).incrementAndGet();
+        snapshots.remove(vendorId);
+    }
+
+    // Content hash rather than the version, which restarts at zero on every node
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.pucodehackathon.backend.product.model.Category;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,4 +16,8 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
     Page<Category> findByVendor_VendorId(UUID vendorId, Pageable pageable);
     Page<Category> findByVendor_VendorIdAndIsActive(UUID vendorId, Boolean isActive, Pageable pageable);
     List<Category> findByVendor_VendorIdAndIsActiveTrue(UUID vendorId);
-}
\ No newline at end of file
+
+    // [vendorId, name] of every active category
+    @Query("SELECT c.vendor.vendorId, c.name FROM Category c WHERE c.isActive = true")
+    List<Object[]> findActiveVendorCategoryNames();
+}
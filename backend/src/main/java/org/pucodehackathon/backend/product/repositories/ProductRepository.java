@@ -4,6 +4,8 @@ import org.pucodehackathon.backend.product.model.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,6 +18,8 @@ public interface ProductRepository extends JpaRepository<Product, UUID> {
             UUID categoryId
     );
 
+    List<Product> findByVendor_VendorIdAndIsAvailableTrue(UUID vendorId);
+
     Optional<List<Product>> findByVendor_VendorId(UUID vendorId);
 
     Optional<Product> findByProductId(UUID productId);
@@ -29,4 +33,21 @@ public interface ProductRepository extends JpaRepository<Product, UUID> {
     Page<Product> findByVendor_VendorIdAndCategory_CategoryId(UUID vendorId, UUID categoryId, Pageable pageable);
 
     Page<Product> findByVendor_VendorIdAndCategory_CategoryIdAndIsAvailable(UUID vendorId, UUID categoryId, Boolean isAvailable, Pageable pageable);
-}
\ No newline at end of file
+
+    @Query("""
+                SELECT p FROM Product p
+                JOIN FETCH p.vendor v
+                JOIN FETCH p.category c
+                WHERE p.isAvailable = true AND c.isActive = true AND v.isActive = true
+            """)
+    List<Product> findSearchable();
+
+    @Query("""
+                SELECT p FROM Product p
+                JOIN FETCH p.vendor v
+                JOIN FETCH p.category c
+                WHERE v.vendorId = :vendorId
+                  AND p.isAvailable = true AND c.isActive = true AND v.isActive = true
+            """)
+    List<Product> findSearchableByVendor(@Param("vendorId") UUID vendorId);
+}
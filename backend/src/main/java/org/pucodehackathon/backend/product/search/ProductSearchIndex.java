@@ -0,0 +1,301 @@
+package org.pucodehackathon.backend.product.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.pucodehackathon.backend.product.model.Product;
+import org.pucodehackathon.backend.product.repositories.ProductRepository;
+import org.pucodehackathon.backend.vendor.model.Vendor;
+import org.pucodehackathon.backend.vendor.repositories.VendorRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-process inverted index over what a hungry user types: product names and
+ * descriptions, category names and vendor names. Each available product is a
+ * document, and each active vendor gets one more document for its name alone,
+ * whether or not it has products yet.
+ * Documents are scored with BM25 over field-weighted term frequencies, and
+ * only documents of vendors inside the caller's radius are scored at all.
+ *
+ * A vendor's documents are rebuilt together whenever its products,
+ * categories, name or status change.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+
+    private final ProductRepository productRepository;
+    private final VendorRepository vendorRepository;
+
+    @Value("${app.search.text.k1:1.2}")
+    private double k1;
+
+    @Value("${app.search.text.b:0.75}")
+    private double b;
+
+    @Value("${app.search.text.weight.name:3.0}")
+    private float nameWeight;
+
+    @Value("${app.search.text.weight.category:1.5}")
+    private float categoryWeight;
+
+    @Value("${app.search.text.weight.vendor:1.5}")
+    private float vendorWeight;
+
+    @Value("${app.search.text.weight.description:1.0}")
+    private float descriptionWeight;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Integer, Float>> postings = new HashMap<>();
+    private final Map<Integer, Doc> docs = new HashMap<>();
+    private final Map<UUID, List<Integer>> docsByVendor = new HashMap<>();
+    private double totalLength;
+    private int nextDocId;
+
+    private volatile boolean ready;
+
+    public enum DocType {PRODUCT, VENDOR}
+
+    private record Doc(
+            DocType type,
+            UUID vendorId,
+            String vendorName,
+            UUID productId,
+            String productName,
+            String categoryName,
+            BigDecimal price,
+            float length,
+            Map<String, Float> termFrequencies
+    ) {
+    }
+
+    public record Hit(
+            DocType type,
+            UUID vendorId,
+            String vendorName,
+            UUID productId,
+            String productName,
+            String categoryName,
+            BigDecimal price,
+            double score
+    ) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            Map<UUID, List<Product>> byVendor = productRepository.findSearchable()
+                    .stream()
+                    .collect(Collectors.groupingBy(p -> p.getVendor().getVendorId()));
+
+            int loaded = 0;
+            for (Vendor vendor : vendorRepository.findByIsActiveTrue()) {
+                List<Doc> built = build(vendor, byVendor.getOrDefault(vendor.getVendorId(), List.of()));
+                lock.writeLock().lock();
+                try {
+                    // A refresh that raced the loader is newer than this snapshot
+                    if (!docsByVendor.containsKey(vendor.getVendorId())) {
+                        replace(vendor.getVendorId(), built);
+                        loaded++;
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+            ready = true;
+            log.info("Product search index loaded {} vendors, {} documents, {} terms", loaded, docs.size(), postings.size());
+        } catch (RuntimeException ex) {
+            log.error("Product search index load failed, vendors are indexed as they change", ex);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Call after a vendor's products, categories, name or status change; deferred to commit when inside a transaction
+    public void refresh(UUID vendorId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload(vendorId);
+                }
+            });
+        } else {
+            reload(vendorId);
+        }
+    }
+
+    // Best documents first, only from vendors in the given set
+    public List<Hit> search(String query, Map<UUID, ?> vendorsInRange, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(TextAnalyzer.analyze(query)));
+        if (terms.isEmpty() || vendorsInRange.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int docCount = docs.size();
+            if (docCount == 0) {
+                return List.of();
+            }
+            double avgLength = totalLength / docCount;
+
+            for (String term : terms) {
+                Map<Integer, Float> postingList = postings.get(term);
+                if (postingList == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (docCount - postingList.size() + 0.5) / (postingList.size() + 0.5));
+                for (Map.Entry<Integer, Float> posting : postingList.entrySet()) {
+                    Doc doc = docs.get(posting.getKey());
+                    if (!vendorsInRange.containsKey(doc.vendorId())) {
+                        continue;
+                    }
+                    double tf = posting.getValue();
+                    double norm = tf + k1 * (1 - b + b * doc.length() / avgLength);
+                    scores.merge(posting.getKey(), idf * tf * (k1 + 1) / norm, Double::sum);
+                }
+            }
+
+            Comparator<Map.Entry<Integer, Double>> byScore = Map.Entry.comparingByValue();
+            PriorityQueue<Map.Entry<Integer, Double>> heap = new PriorityQueue<>(limit + 1, byScore);
+            for (Map.Entry<Integer, Double> scored : scores.entrySet()) {
+                heap.add(scored);
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(heap.size());
+            while (!heap.isEmpty()) {
+                Map.Entry<Integer, Double> scored = heap.poll();
+                Doc doc = docs.get(scored.getKey());
+                hits.add(new Hit(
+                        doc.type(),
+                        doc.vendorId(),
+                        doc.vendorName(),
+                        doc.productId(),
+                        doc.productName(),
+                        doc.categoryName(),
+                        doc.price(),
+                        scored.getValue()
+                ));
+            }
+            return hits.reversed();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void reload(UUID vendorId) {
+        try {
+            // Inactive or deleted vendors drop out of the index entirely
+            List<Doc> built = vendorRepository.findById(vendorId)
+                    .filter(vendor -> Boolean.TRUE.equals(vendor.getIsActive()))
+                    .map(vendor -> build(vendor, productRepository.findSearchableByVendor(vendorId)))
+                    .orElse(List.of());
+            lock.writeLock().lock();
+            try {
+                replace(vendorId, built);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (RuntimeException ex) {
+            log.error("Product search index refresh failed for vendor {}", vendorId, ex);
+        }
+    }
+
+    // Caller holds the write lock
+    private void replace(UUID vendorId, List<Doc> built) {
+        List<Integer> previous = docsByVendor.remove(vendorId);
+        if (previous != null) {
+            for (int docId : previous) {
+                Doc doc = docs.remove(docId);
+                totalLength -= doc.length();
+                for (String term : doc.termFrequencies().keySet()) {
+                    Map<Integer, Float> postingList = postings.get(term);
+                    postingList.remove(docId);
+                    if (postingList.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+        if (built.isEmpty()) {
+            // Marks the vendor as refreshed so a slower initial load cannot bring its documents back
+            docsByVendor.put(vendorId, List.of());
+            return;
+        }
+
+        List<Integer> ids = new ArrayList<>(built.size());
+        for (Doc doc : built) {
+            int docId = nextDocId++;
+            docs.put(docId, doc);
+            ids.add(docId);
+            totalLength += doc.length();
+            doc.termFrequencies().forEach((term, tf) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(docId, tf));
+        }
+        docsByVendor.put(vendorId, ids);
+    }
+
+    // Runs outside the lock; an active vendor and its searchable products, with category fetched
+    private List<Doc> build(Vendor vendor, List<Product> products) {
+        List<Doc> built = new ArrayList<>(products.size() + 1);
+        UUID vendorId = vendor.getVendorId();
+        String vendorName = vendor.getBusinessName();
+
+        Map<String, Float> vendorTerms = new HashMap<>();
+        float vendorLength = addField(vendorTerms, vendorName, 1.0f);
+        built.add(new Doc(DocType.VENDOR, vendorId, vendorName, null, null, null, null, vendorLength, vendorTerms));
+
+        for (Product product : products) {
+            Map<String, Float> terms = new HashMap<>();
+            String categoryName = product.getCategory() != null ? product.getCategory().getName() : null;
+            float length = addField(terms, product.getName(), nameWeight)
+                    + addField(terms, categoryName, categoryWeight)
+                    + addField(terms, vendorName, vendorWeight)
+                    + addField(terms, product.getDescription(), descriptionWeight);
+            built.add(new Doc(
+                    DocType.PRODUCT,
+                    vendorId,
+                    vendorName,
+                    product.getProductId(),
+                    product.getName(),
+                    categoryName,
+                    product.getPrice(),
+                    length,
+                    terms
+            ));
+        }
+        return built;
+    }
+
+    private static float addField(Map<String, Float> terms, String text, float weight) {
+        List<String> tokens = TextAnalyzer.analyze(text);
+        for (String token : tokens) {
+            terms.merge(token, weight, Float::sum);
+        }
+        return tokens.size() * weight;
+    }
+}
@@ -0,0 +1,370 @@
+package org.pucodehackathon.backend.product.search;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.pucodehackathon.backend.product.model.Product;
+import org.pucodehackathon.backend.product.repositories.ProductRepository;
+import org.pucodehackathon.backend.vendor.index.GeoGrid;
+import org.pucodehackathon.backend.vendor.index.VendorGeoIndex;
+import org.pucodehackathon.backend.vendor.model.Vendor;
+import org.pucodehackathon.backend.vendor.repositories.VendorRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Typeahead over vendor names, product names and category names.
+ *
+ * Each vendor's names are tracked as they change; every few seconds the
+ * changed state is compiled into one flattened trie per geo cell, holding the
+ * names of every vendor within neighborhood-km of that cell. Every trie node
+ * stores its precomputed top-K suggestions. A keystroke is therefore a cell
+ * lookup plus a walk of the typed characters that returns a shared immutable
+ * list, with no allocation. Names are also reachable from each word start, so
+ * "tik" finds "Paneer Tikka".
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SuggestIndex {
+
+    private static final int MAX_WORD_STARTS = 4;
+
+    private final ProductRepository productRepository;
+    private final VendorRepository vendorRepository;
+    private final VendorGeoIndex geoIndex;
+
+    @Value("${app.search.suggest.top-k:8}")
+    private int topK;
+
+    @Value("${app.search.suggest.cell-size-degrees:0.1}")
+    private double cellSizeDegrees;
+
+    @Value("${app.search.suggest.neighborhood-km:10}")
+    private double neighborhoodKm;
+
+    @Value("${app.search.suggest.max-age-ms:60000}")
+    private long maxAgeMs;
+
+    private GeoGrid grid;
+
+    private final ConcurrentHashMap<UUID, VendorNames> vendors = new ConcurrentHashMap<>();
+    private volatile Map<Long, Trie> tries = Map.of();
+    private volatile Trie global = Trie.EMPTY;
+    private volatile boolean dirty;
+    private volatile long builtAtMillis;
+
+    public enum Type {VENDOR, PRODUCT, CATEGORY}
+
+    public record Suggestion(String text, Type type, UUID vendorId, double weight) {
+    }
+
+    private record VendorNames(UUID vendorId, String businessName, int totalReviews, Set<String> products, Set<String> categories) {
+    }
+
+    @PostConstruct
+    void init() {
+        grid = new GeoGrid(cellSizeDegrees);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            Map<UUID, List<Product>> byVendor = productRepository.findSearchable()
+                    .stream()
+                    .collect(Collectors.groupingBy(p -> p.getVendor().getVendorId()));
+            // Vendors without products yet are still suggested by name
+            for (Vendor vendor : vendorRepository.findByIsActiveTrue()) {
+                vendors.putIfAbsent(vendor.getVendorId(),
+                        names(vendor, byVendor.getOrDefault(vendor.getVendorId(), List.of())));
+            }
+            rebuild();
+            log.info("Suggest index loaded {} vendors into {} cells", vendors.size(), tries.size());
+        } catch (RuntimeException ex) {
+            log.error("Suggest index load failed, vendors are indexed as they change", ex);
+        }
+    }
+
+    // Call after a vendor's products, categories, name or status change; deferred to commit when inside a transaction
+    public void refresh(UUID vendorId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload(vendorId);
+                }
+            });
+        } else {
+            reload(vendorId);
+        }
+    }
+
+    public List<Suggestion> suggest(CharSequence query, double lat, double lng) {
+        Trie trie = tries.get(grid.cellOf(lat, lng));
+        List<Suggestion> nearby = trie != null ? trie.lookup(query) : List.of();
+        // Nothing around the user yet: better a far suggestion than none
+        return nearby.isEmpty() ? global.lookup(query) : nearby;
+    }
+
+    // Mobile vendors drift between cells, so the tries are also recompiled when they get old
+    @Scheduled(fixedDelayString = "${app.search.suggest.rebuild-ms:2000}")
+    public void rebuildIfStale() {
+        if (dirty || System.currentTimeMillis() - builtAtMillis >= maxAgeMs) {
+            rebuild();
+        }
+    }
+
+    void rebuild() {
+        // Positions come from the geo index; until it has loaded, keep retrying every tick
+        dirty = !geoIndex.isReady();
+        Map<Long, Map<String, Suggestion>> byCell = new HashMap<>();
+        Map<String, Suggestion> everywhere = new HashMap<>();
+
+        for (VendorNames names : vendors.values()) {
+            VendorGeoIndex.Entry position = geoIndex.get(names.vendorId());
+            long[] cells = position != null
+                    ? grid.cellsCovering(position.latitude(), position.longitude(), neighborhoodKm, Long.MAX_VALUE)
+                    : new long[0];
+            for (long cell : cells) {
+                collect(byCell.computeIfAbsent(cell, key -> new HashMap<>()), names);
+            }
+            if (position != null) {
+                collect(everywhere, names);
+            }
+        }
+
+        Map<Long, Trie> next = new HashMap<>(byCell.size());
+        byCell.forEach((cell, suggestions) -> next.put(cell, Trie.build(suggestions.values(), topK)));
+        tries = Map.copyOf(next);
+        global = Trie.build(everywhere.values(), topK);
+        builtAtMillis = System.currentTimeMillis();
+    }
+
+    private void reload(UUID vendorId) {
+        try {
+            Vendor vendor = vendorRepository.findById(vendorId)
+                    .filter(v -> Boolean.TRUE.equals(v.getIsActive()))
+                    .orElse(null);
+            if (vendor == null) {
+                vendors.remove(vendorId);
+            } else {
+                vendors.put(vendorId, names(vendor, productRepository.findSearchableByVendor(vendorId)));
+            }
+            dirty = true;
+        } catch (RuntimeException ex) {
+            log.error("Suggest index refresh failed for vendor {}", vendorId, ex);
+        }
+    }
+
+    // Popularity: a dish or category counts once per vendor selling it; vendor names by review count
+    private static void collect(Map<String, Suggestion> target, VendorNames names) {
+        if (names.businessName() != null && !names.businessName().isBlank()) {
+            target.put("v|" + names.vendorId(), new Suggestion(
+                    names.businessName().trim(), Type.VENDOR, names.vendorId(), 1 + Math.log1p(names.totalReviews())));
+        }
+        for (String product : names.products()) {
+            target.merge("p|" + normalize(product), new Suggestion(product, Type.PRODUCT, null, 1),
+                    (a, b) -> new Suggestion(a.text(), a.type(), null, a.weight() + 1));
+        }
+        for (String category : names.categories()) {
+            target.merge("c|" + normalize(category), new Suggestion(category, Type.CATEGORY, null, 1),
+                    (a, b) -> new Suggestion(a.text(), a.type(), null, a.weight() + 1));
+        }
+    }
+
+    private static VendorNames names(Vendor vendor, List<Product> products) {
+        Set<String> productNames = new LinkedHashSet<>();
+        Set<String> categoryNames = new LinkedHashSet<>();
+        for (Product product : products) {
+            if (product.getName() != null && !product.getName().isBlank()) {
+                productNames.add(product.getName().trim());
+            }
+            if (product.getCategory() != null && product.getCategory().getName() != null
+                    && !product.getCategory().getName().isBlank()) {
+                categoryNames.add(product.getCategory().getName().trim());
+            }
+        }
+        return new VendorNames(
+                vendor.getVendorId(),
+                vendor.getBusinessName(),
+                vendor.getTotalReviews() != null ? vendor.getTotalReviews() : 0,
+                productNames,
+                categoryNames
+        );
+    }
+
+    // Lower case, letters and digits only, single spaces
+    static String normalize(CharSequence text) {
+        StringBuilder out = new StringBuilder(text.length());
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            if (Character.isLetterOrDigit(c)) {
+                if (space && !out.isEmpty()) {
+                    out.append(' ');
+                }
+                out.append(c);
+                space = false;
+            } else {
+                space = true;
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Flattened trie: node i's children are a sibling chain starting at
+     * firstChild[i], each labelled with one char. Node 0 is the root.
+     */
+    static final class Trie {
+
+        static final Trie EMPTY = new Trie(new char[1], new int[]{-1}, new int[]{-1}, List.of(List.of()));
+
+        private final char[] label;
+        private final int[] firstChild;
+        private final int[] nextSibling;
+        private final List<List<Suggestion>> top;
+
+        private Trie(char[] label, int[] firstChild, int[] nextSibling, List<List<Suggestion>> top) {
+            this.label = label;
+            this.firstChild = firstChild;
+            this.nextSibling = nextSibling;
+            this.top = top;
+        }
+
+        // Walks the query with the same folding as normalize(), without building a string
+        List<Suggestion> lookup(CharSequence query) {
+            int node = 0;
+            boolean pendingSpace = false;
+            boolean any = false;
+            for (int i = 0; i < query.length(); i++) {
+                char c = Character.toLowerCase(query.charAt(i));
+                if (!Character.isLetterOrDigit(c)) {
+                    pendingSpace = any;
+                    continue;
+                }
+                if (pendingSpace) {
+                    node = child(node, ' ');
+                    if (node < 0) {
+                        return List.of();
+                    }
+                    pendingSpace = false;
+                }
+                node = child(node, c);
+                if (node < 0) {
+                    return List.of();
+                }
+                any = true;
+            }
+            return any ? top.get(node) : List.of();
+        }
+
+        private int child(int node, char c) {
+            for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+                if (label[child] == c) {
+                    return child;
+                }
+            }
+            return -1;
+        }
+
+        static Trie build(Iterable<Suggestion> suggestions, int topK) {
+            Comparator<Suggestion> best = Comparator.comparingDouble(Suggestion::weight).reversed()
+                    .thenComparing(Suggestion::text);
+
+            // Pointer trie first, flattened afterwards
+            List<Map<Character, Integer>> children = new ArrayList<>();
+            List<List<Suggestion>> candidates = new ArrayList<>();
+            List<Character> labels = new ArrayList<>();
+            children.add(new HashMap<>());
+            candidates.add(new ArrayList<>());
+            labels.add('\0');
+
+            for (Suggestion suggestion : suggestions) {
+                String key = normalize(suggestion.text());
+                int starts = 0;
+                for (int start = 0; start < key.length() && starts < MAX_WORD_STARTS; start++) {
+                    if (start > 0 && key.charAt(start - 1) != ' ') {
+                        continue;
+                    }
+                    starts++;
+                    int node = 0;
+                    for (int i = start; i < key.length(); i++) {
+                        char c = key.charAt(i);
+                        Integer next = children.get(node).get(c);
+                        if (next == null) {
+                            next = children.size();
+                            children.get(node).put(c, next);
+                            children.add(new HashMap<>());
+                            candidates.add(new ArrayList<>());
+                            labels.add(c);
+                        }
+                        node = next;
+                        offer(candidates.get(node), suggestion, best, topK);
+                    }
+                }
+            }
+
+            int size = children.size();
+            char[] label = new char[size];
+            int[] firstChild = new int[size];
+            int[] nextSibling = new int[size];
+            Arrays.fill(firstChild, -1);
+            Arrays.fill(nextSibling, -1);
+            List<List<Suggestion>> top = new ArrayList<>(size);
+            for (int node = 0; node < size; node++) {
+                label[node] = labels.get(node);
+                int previous = -1;
+                for (int child : children.get(node).values()) {
+                    if (previous < 0) {
+                        firstChild[node] = child;
+                    } else {
+                        nextSibling[previous] = child;
+                    }
+                    previous = child;
+                }
+                List<Suggestion> ranked = candidates.get(node);
+                ranked.sort(best);
+                top.add(List.copyOf(ranked));
+            }
+            return new Trie(label, firstChild, nextSibling, top);
+        }
+
+        // Keeps the best topK seen so far; the same name reached twice (two word starts) counts once
+        private static void offer(List<Suggestion> kept, Suggestion suggestion, Comparator<Suggestion> best, int topK) {
+            if (kept.contains(suggestion)) {
+                return;
+            }
+            if (kept.size() < topK) {
+                kept.add(suggestion);
+                return;
+            }
+            int worst = 0;
+            for (int i = 1; i < kept.size(); i++) {
+                if (best.compare(kept.get(i), kept.get(worst)) > 0) {
+                    worst = i;
+                }
+            }
+            if (best.compare(suggestion, kept.get(worst)) < 0) {
+                kept.set(worst, suggestion);
+            }
+        }
+    }
+}
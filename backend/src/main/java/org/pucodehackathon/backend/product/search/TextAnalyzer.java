@@ -0,0 +1,145 @@
+package org.pucodehackathon.backend.product.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Turns menu text into index terms. Menus and queries are mostly romanized
+ * Hindi typed however the writer likes ("paneer"/"panir", "pakode"/"pakora",
+ * "chai"/"chay"), so each token is folded to a spelling-insensitive key
+ * instead of being stemmed as English. Documents and queries go through the
+ * same rules, so the keys only need to be consistent, not pretty.
+ */
+public final class TextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "the", "of", "with", "in", "for", "or",
+            "ka", "ki", "ke", "aur", "wala", "wali", "wale", "vala", "vali", "vale"
+    );
+
+    private TextAnalyzer() {
+    }
+
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && isWordChar(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String token = lower.substring(start, i);
+                start = -1;
+                if (!STOP_WORDS.contains(token)) {
+                    String term = fold(token);
+                    if (!term.isEmpty()) {
+                        terms.add(term);
+                    }
+                }
+            }
+        }
+        return terms;
+    }
+
+    // Spelling-insensitive key for a lower-cased token
+    static String fold(String token) {
+        if (!isLatin(token)) {
+            return token;
+        }
+        String s = stripPlural(token);
+
+        s = s.replace("ph", "f")
+                .replace("ck", "k")
+                .replace("q", "k")
+                .replace("w", "v")
+                .replace("z", "j");
+
+        // Aspirates are written both ways: bhaji/baji, dhokla/dokla, kheer/keer
+        StringBuilder out = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == 'h' && i > 0 && "bdgkpt".indexOf(s.charAt(i - 1)) >= 0) {
+                continue;
+            }
+            out.append(c);
+        }
+        s = out.toString();
+
+        s = s.replace("ee", "i")
+                .replace("oo", "u")
+                .replace("aa", "a")
+                .replace("ay", "ai");
+
+        // Intervocalic d is usually the flapped r: pakoda/pakora, vada/vara
+        out.setLength(0);
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == 'd' && i > 0 && i < s.length() - 1 && isVowel(s.charAt(i - 1)) && isVowel(s.charAt(i + 1))) {
+                c = 'r';
+            }
+            // Doubled letters carry no meaning in transliteration: samossa, tikki, bajji
+            if (out.length() > 0 && out.charAt(out.length() - 1) == c) {
+                continue;
+            }
+            out.append(c);
+        }
+        s = out.toString();
+
+        // Final -ey/-y is the same sound as -i: chutney/chutni, curry/curri
+        if (s.length() > 3 && s.endsWith("ey")) {
+            s = s.substring(0, s.length() - 2) + "i";
+        } else if (s.length() > 3 && s.endsWith("y") && !isVowel(s.charAt(s.length() - 2))) {
+            s = s.substring(0, s.length() - 1) + "i";
+        }
+        // Hindi plural -e of -a nouns: samose, pakore, parathe
+        if (s.length() >= 4 && s.endsWith("e") && !isVowel(s.charAt(s.length() - 2))) {
+            s = s.substring(0, s.length() - 1) + "a";
+        }
+        // Trailing h after a vowel is silent: chah, halvah
+        if (s.length() > 3 && s.endsWith("h") && isVowel(s.charAt(s.length() - 2))) {
+            s = s.substring(0, s.length() - 1);
+        }
+        return s;
+    }
+
+    private static String stripPlural(String s) {
+        if (s.length() <= 3) {
+            return s;
+        }
+        if (s.endsWith("ies") && s.length() > 4) {
+            return s.substring(0, s.length() - 3) + "y";
+        }
+        if (s.endsWith("ches") || s.endsWith("shes") || s.endsWith("xes")) {
+            return s.substring(0, s.length() - 2);
+        }
+        if (s.endsWith("s") && !s.endsWith("ss") && !s.endsWith("us")) {
+            return s.substring(0, s.length() - 1);
+        }
+        return s;
+    }
+
+    private static boolean isWordChar(char c) {
+        // Devanagari combining marks are not letters but belong to the word
+        return Character.isLetterOrDigit(c) || Character.getType(c) == Character.NON_SPACING_MARK
+                || Character.getType(c) == Character.COMBINING_SPACING_MARK;
+    }
+
+    private static boolean isLatin(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            if (token.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVowel(char c) {
+        return "aeiou".indexOf(c) >= 0;
+    }
+}
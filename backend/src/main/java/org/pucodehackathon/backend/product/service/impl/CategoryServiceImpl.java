@@ -3,13 +3,17 @@ package org.pucodehackathon.backend.product.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import org.pucodehackathon.backend.exception.product_exception.CategoryNotFoundException;
+import org.pucodehackathon.backend.product.cache.VendorCatalogCache;
 import org.pucodehackathon.backend.product.dto.CategoryListItemDto;
 import org.pucodehackathon.backend.product.dto.CategoryResponseDto;
 import org.pucodehackathon.backend.product.dto.CreateCategoryRequestDto;
 import org.pucodehackathon.backend.product.dto.UpdateCategoryRequestDto;
 import org.pucodehackathon.backend.product.model.Category;
 import org.pucodehackathon.backend.product.repositories.CategoryRepository;
+import org.pucodehackathon.backend.product.search.ProductSearchIndex;
+import org.pucodehackathon.backend.product.search.SuggestIndex;
 import org.pucodehackathon.backend.product.service.CategoryService;
+import org.pucodehackathon.backend.vendor.index.CategoryTermIndex;
 import org.pucodehackathon.backend.vendor.model.Vendor;
 import org.pucodehackathon.backend.vendor.model.VerificationStatus;
 import org.pucodehackathon.backend.vendor.repositories.VendorRepository;
@@ -28,6 +32,10 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final VendorRepository vendorRepository;
+    private final VendorCatalogCache catalogCache;
+    private final CategoryTermIndex categoryIndex;
+    private final ProductSearchIndex searchIndex;
+    private final SuggestIndex suggestIndex;
 
 
     @Override
@@ -42,6 +50,10 @@ public class CategoryServiceImpl implements CategoryService {
 
 
         Category savedCategory = categoryRepository.save(category);
+        catalogCache.bump(vendor.getVendorId());
+        categoryIndex.refresh(vendor.getVendorId());
+        searchIndex.refresh(vendor.getVendorId());
+        suggestIndex.refresh(vendor.getVendorId());
 
         return CategoryResponseDto.builder()
                 .categoryId(savedCategory.getCategoryId())
@@ -82,6 +94,10 @@ public class CategoryServiceImpl implements CategoryService {
         category.setIsActive(request.getIsActive());
 
         categoryRepository.save(category);
+        catalogCache.bump(vendor.getVendorId());
+        categoryIndex.refresh(vendor.getVendorId());
+        searchIndex.refresh(vendor.getVendorId());
+        suggestIndex.refresh(vendor.getVendorId());
 
         return CategoryResponseDto.builder()
                 .categoryId(category.getCategoryId())
@@ -106,6 +122,10 @@ public class CategoryServiceImpl implements CategoryService {
         // Soft delete
         category.setIsActive(false);
         categoryRepository.save(category);
+        catalogCache.bump(vendor.getVendorId());
+        categoryIndex.refresh(vendor.getVendorId());
+        searchIndex.refresh(vendor.getVendorId());
+        suggestIndex.refresh(vendor.getVendorId());
     }
 
 
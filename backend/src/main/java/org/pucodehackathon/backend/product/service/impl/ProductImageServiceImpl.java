@@ -2,6 +2,7 @@ package org.pucodehackathon.backend.product.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import org.pucodehackathon.backend.exception.product_exception.ProductNotFoundException;
+import org.pucodehackathon.backend.product.cache.VendorCatalogCache;
 import org.pucodehackathon.backend.product.dto.ProductImageResponseDto;
 import org.pucodehackathon.backend.product.model.Product;
 import org.pucodehackathon.backend.product.model.ProductImage;
@@ -26,6 +27,7 @@ public class ProductImageServiceImpl implements ProductImageService {
     private final ProductImageRepository productImageRepository;
     private final VendorRepository vendorRepository;
     private final ImageUploadService imageUploadService;
+    private final VendorCatalogCache catalogCache;
 
     @Override
     public void addImage(UUID userId, UUID productId, String imageUrl, String publicId) {
@@ -51,6 +53,7 @@ public class ProductImageServiceImpl implements ProductImageService {
                 .build();
 
         productImageRepository.save(image);
+        catalogCache.bump(vendor.getVendorId());
     }
 
     @Override
@@ -79,6 +82,7 @@ public class ProductImageServiceImpl implements ProductImageService {
 
         image.setIsPrimary(true);
         productImageRepository.save(image);
+        catalogCache.bump(vendor.getVendorId());
     }
 
     @Override
@@ -97,6 +101,7 @@ public class ProductImageServiceImpl implements ProductImageService {
         imageUploadService.deleteImage(image.getPublicId());
 
         productImageRepository.delete(image);
+        catalogCache.bump(vendor.getVendorId());
     }
 
     private Vendor validateVendor(UUID userId) {
@@ -3,6 +3,7 @@ package org.pucodehackathon.backend.product.service.impl;
 import lombok.RequiredArgsConstructor;
 import org.pucodehackathon.backend.exception.product_exception.CategoryNotFoundException;
 import org.pucodehackathon.backend.exception.product_exception.ProductNotFoundException;
+import org.pucodehackathon.backend.product.cache.VendorCatalogCache;
 import org.pucodehackathon.backend.product.dto.CreateProductRequestDto;
 import org.pucodehackathon.backend.product.dto.ProductListItemDto;
 import org.pucodehackathon.backend.product.dto.ProductResponseDto;
@@ -11,6 +12,8 @@ import org.pucodehackathon.backend.product.model.Category;
 import org.pucodehackathon.backend.product.model.Product;
 import org.pucodehackathon.backend.product.repositories.CategoryRepository;
 import org.pucodehackathon.backend.product.repositories.ProductRepository;
+import org.pucodehackathon.backend.product.search.ProductSearchIndex;
+import org.pucodehackathon.backend.product.search.SuggestIndex;
 import org.pucodehackathon.backend.product.service.ProductService;
 import org.pucodehackathon.backend.vendor.model.Vendor;
 import org.pucodehackathon.backend.vendor.model.VerificationStatus;
@@ -31,6 +34,9 @@ public class ProductServiceImpl implements ProductService {
     private final VendorRepository vendorRepository;
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
+    private final VendorCatalogCache catalogCache;
+    private final ProductSearchIndex searchIndex;
+    private final SuggestIndex suggestIndex;
 
     @Override
     public ProductResponseDto createProduct(UUID userId, CreateProductRequestDto request) {
@@ -54,6 +60,9 @@ public class ProductServiceImpl implements ProductService {
                 .build();
 
         productRepository.save(product);
+        catalogCache.bump(vendor.getVendorId());
+        searchIndex.refresh(vendor.getVendorId());
+        suggestIndex.refresh(vendor.getVendorId());
 
         return ProductResponseDto.builder()
                 .productId(product.getProductId())
@@ -119,6 +128,9 @@ public class ProductServiceImpl implements ProductService {
         product.setIsAvailable(request.getIsAvailable());
 
         productRepository.save(product);
+        catalogCache.bump(vendor.getVendorId());
+        searchIndex.refresh(vendor.getVendorId());
+        suggestIndex.refresh(vendor.getVendorId());
 
         return ProductResponseDto.builder()
                 .productId(product.getProductId())
@@ -177,6 +189,9 @@ public class ProductServiceImpl implements ProductService {
         // Soft delete
         product.setIsAvailable(false);
         productRepository.save(product);
+        catalogCache.bump(vendor.getVendorId());
+        searchIndex.refresh(vendor.getVendorId());
+        suggestIndex.refresh(vendor.getVendorId());
     }
 
     private Vendor validateVendorAccess(UUID userId) {
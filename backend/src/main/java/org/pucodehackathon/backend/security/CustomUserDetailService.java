@@ -6,6 +6,7 @@ import org.pucodehackathon.backend.auth.repositories.UserRepository;
 import org.pucodehackathon.backend.exception.UserNotFoundException;
 import org.pucodehackathon.backend.helper.UserPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -13,8 +14,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailService implements UserDetailsService {
+public class CustomUserDetailService implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     @Transactional
@@ -25,4 +27,16 @@ public class CustomUserDetailService implements UserDetailsService {
         return new UserPrincipal(user);
     }
 
+    // Called by the authentication provider after a successful login with a hash on an older cost factor
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UserNotFoundException("No User Found By this UserName"));
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        principalCache.evict(user.getId());
+        return new UserPrincipal(user);
+    }
+
 }
@@ -8,14 +8,20 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.pucodehackathon.backend.helper.UserPrincipal;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
 
 //@Component
 //@RequiredArgsConstructor
@@ -115,6 +121,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final CustomUserDetailService customUserDetailService;
+    private final PrincipalCache principalCache;
+
+    @Value("${security.principal-cache.authorities-from-token:false}")
+    private boolean authoritiesFromToken;
 
     @Override
     protected void doFilterInternal(
@@ -124,7 +134,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
 
         String header = request.getHeader("Authorization");
-        log.info("Authorization Header : {}", header);
 
         if (header == null || !header.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
@@ -134,28 +143,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = header.substring(7);
 
         try {
-            if (!jwtService.isAccessToken(token)) {
+            // Single signature verification per request
+            Claims claims = jwtService.parse(token).getPayload();
+
+            if (!"access".equals(claims.get("typ"))) {
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            Claims claims = jwtService.parse(token).getPayload();
-            String email = claims.get("email", String.class);
-
             if (SecurityContextHolder.getContext().getAuthentication() != null) {
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            // ✅ Load UserPrincipal
-            UserDetails userDetails =
-                    customUserDetailService.loadUserByUsername(email);
+            UUID userId = UUID.fromString(claims.getSubject());
+            UserPrincipal principal = principalCache.get(userId);
+
+            if (principal == null) {
+                long generation = principalCache.generation(userId);
+                principal = (UserPrincipal) customUserDetailService
+                        .loadUserByUsername(claims.get("email", String.class));
+                principalCache.put(userId, generation, principal);
+            }
+
+            Collection<? extends GrantedAuthority> authorities = authoritiesFromToken
+                    ? authoritiesOf(claims)
+                    : principal.getAuthorities();
 
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
-                            userDetails,                   // ✅ UserPrincipal
+                            principal,
                             null,
-                            userDetails.getAuthorities()
+                            authorities
                     );
 
             authentication.setDetails(
@@ -164,9 +183,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            log.info("User {} authenticated with authorities: {}",
-                    userDetails.getUsername(),
-                    userDetails.getAuthorities());
+            log.debug("User {} authenticated with authorities: {}",
+                    principal.getUsername(),
+                    authorities);
 
         } catch (ExpiredJwtException e) {
             log.error("JWT Expired: {}", e.getMessage());
@@ -180,4 +199,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private static List<SimpleGrantedAuthority> authoritiesOf(Claims claims) {
+        List<?> roles = claims.get("roles", List.class);
+        if (roles == null) {
+            return List.of();
+        }
+        return roles.stream()
+                .map(role -> new SimpleGrantedAuthority(role.toString()))
+                .toList();
+    }
 }
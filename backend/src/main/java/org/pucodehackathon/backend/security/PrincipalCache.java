@@ -0,0 +1,108 @@
+package org.pucodehackathon.backend.security;
+
+import org.pucodehackathon.backend.helper.UserPrincipal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, TTL-evicting cache of authenticated principals keyed by user id,
+ * so the JWT filter does not reload the user on every request.
+ *
+ * Every evict bumps the user's generation. Callers read the generation before
+ * loading the user and hand it to put(), which drops the principal if an
+ * evict happened in between, so a load that raced an admin change can never
+ * repopulate the cache with the old row.
+ */
+@Component
+public class PrincipalCache {
+
+    private final ConcurrentHashMap<UUID, Entry> entries = new ConcurrentHashMap<>();
+    // Only users that have been evicted get an entry; everyone else is at generation 0
+    private final ConcurrentHashMap<UUID, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    @Value("${security.principal-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${security.principal-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${security.principal-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private record Entry(UserPrincipal principal, long expiresAtNanos) {
+    }
+
+    public UserPrincipal get(UUID userId) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtNanos() - System.nanoTime() <= 0) {
+            entries.remove(userId, entry);
+            return null;
+        }
+        return entry.principal();
+    }
+
+    // Read before loading the user and hand back to put()
+    public long generation(UUID userId) {
+        AtomicLong generation = generations.get(userId);
+        return generation != null ? generation.get() : 0L;
+    }
+
+    public void put(UUID userId, long generation, UserPrincipal principal) {
+        if (!enabled) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            shrink();
+        }
+        Entry entry = new Entry(principal, System.nanoTime() + TimeUnit.SECONDS.toNanos(ttlSeconds));
+        // Checked under the entry's bin lock, so an evict either fails this check or removes the entry after it
+        entries.compute(userId, (id, current) -> generation == generation(id) ? entry : current);
+    }
+
+    // Call whenever the user's roles, enabled flag or profile change
+    public void evict(UUID userId) {
+        evictNow(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A request may reload the old row before this transaction commits
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId);
+                }
+            });
+        }
+    }
+
+    private void evictNow(UUID userId) {
+        generations.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+        entries.remove(userId);
+    }
+
+    private void shrink() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.expiresAtNanos() - now <= 0);
+
+        // Still full: drop an arbitrary tenth, they are reloaded on next use
+        int excess = entries.size() - maxEntries + Math.max(1, maxEntries / 10);
+        Iterator<Map.Entry<UUID, Entry>> it = entries.entrySet().iterator();
+        while (excess-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package org.pucodehackathon.backend.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.pucodehackathon.backend.auth.model.RefreshToken;
+import org.pucodehackathon.backend.auth.repositories.RefreshTokenRepository;
+import org.pucodehackathon.backend.auth.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Answers "is this refresh token revoked" without a query and persists
+ * issued and rotated tokens in batches. Refresh tokens are signed JWTs, so
+ * the signature and exp claim prove the token was issued by us and is still
+ * live; only revocation needs state.
+ *
+ * Revocations loaded from the table sit in a bloom filter that is rebuilt
+ * periodically; revocations made since the last rebuild sit in an exact map.
+ * A bloom hit that is not in the map is confirmed against the table. Other
+ * instances' revocations become visible here at the next rebuild.
+ *
+ * Flushes, logout write-throughs and rebuilds all hold flushLock, so a
+ * rebuild never prunes a revocation that a flush has drained but not yet
+ * committed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenRegistry {
+
+    private static final String REVOKE_SQL = """
+            UPDATE refresh_tokens
+            SET revoked = true, replaced_by_token = COALESCE(?, replaced_by_token)
+            WHERE jti = ?
+            """;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${security.refresh-tokens.bloom-false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${security.refresh-tokens.purge-chunk:1000}")
+    private int purgeChunk;
+
+    @Value("${security.refresh-tokens.max-flush-attempts:5}")
+    private int maxFlushAttempts;
+
+    private final ConcurrentHashMap<String, Revocation> recent = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Issued> pendingInserts = new ConcurrentLinkedQueue<>();
+    private final ConcurrentHashMap<String, Revocation> pendingRevocations = new ConcurrentHashMap<>();
+    // Revocations whose write was given up on; kept in memory until the token expires
+    private final ConcurrentHashMap<String, Revocation> unpersisted = new ConcurrentHashMap<>();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private volatile BloomFilter revoked = new BloomFilter(1, 0.01);
+
+    private record Issued(UUID userId, String jti, Instant expiresAt, int attempts) {
+
+        Issued retried() {
+            return new Issued(userId, jti, expiresAt, attempts + 1);
+        }
+    }
+
+    private record Revocation(String replacedBy, Instant expiresAt, long recordedAtNanos, int attempts) {
+
+        Revocation retried() {
+            return new Revocation(replacedBy, expiresAt, recordedAtNanos, attempts + 1);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    public void issue(UUID userId, String jti, Instant expiresAt) {
+        pendingInserts.add(new Issued(userId, jti, expiresAt, 0));
+    }
+
+    public boolean isRevoked(String jti) {
+        if (recent.containsKey(jti)) {
+            return true;
+        }
+        if (!revoked.mightContain(jti)) {
+            return false;
+        }
+        // Rare: a bloom positive is either a real revocation or a false positive
+        return refreshTokenRepository.existsByJtiAndRevokedTrue(jti);
+    }
+
+    // Atomically marks the token used; false means it was already revoked or rotated (reuse)
+    public boolean tryRevoke(String jti, String replacedBy, Instant expiresAt) {
+        if (isRevoked(jti)) {
+            return false;
+        }
+        Revocation revocation = new Revocation(replacedBy, expiresAt, System.nanoTime(), 0);
+        if (recent.putIfAbsent(jti, revocation) != null) {
+            return false;
+        }
+        pendingRevocations.put(jti, revocation);
+        return true;
+    }
+
+    // Logout writes through: it is rare and must survive a crash
+    public void revokeNow(String jti, Instant expiresAt) {
+        recent.put(jti, new Revocation(null, expiresAt, System.nanoTime(), 0));
+        flushLock.lock();
+        try {
+            // The token's own insert may still be queued; write it first so the UPDATE finds the row
+            flushPending();
+            jdbcTemplate.update(REVOKE_SQL, null, jti);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.refresh-tokens.flush-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // Caller holds flushLock; false when the batch failed and was re-queued
+    private boolean flushPending() {
+        if (pendingInserts.isEmpty() && pendingRevocations.isEmpty()) {
+            return true;
+        }
+
+        List<Issued> inserts = new ArrayList<>();
+        for (Issued issued; (issued = pendingInserts.poll()) != null; ) {
+            inserts.add(issued);
+        }
+        List<Map.Entry<String, Revocation>> revocations = new ArrayList<>();
+        for (String jti : pendingRevocations.keySet()) {
+            Revocation revocation = pendingRevocations.remove(jti);
+            if (revocation != null) {
+                revocations.add(Map.entry(jti, revocation));
+            }
+        }
+
+        try {
+            write(inserts, revocations);
+            return true;
+        } catch (RuntimeException ex) {
+            log.error("Refresh token flush failed for {} inserts and {} revocations, retrying next tick",
+                    inserts.size(), revocations.size(), ex);
+            requeue(inserts, revocations);
+            return false;
+        }
+    }
+
+    private void write(List<Issued> inserts, List<Map.Entry<String, Revocation>> revocations) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // Inserted through JPA so Hibernate batches them and handles Instant columns
+            if (!inserts.isEmpty()) {
+                refreshTokenRepository.saveAll(inserts.stream()
+                        .map(issued -> RefreshToken.builder()
+                                .jti(issued.jti())
+                                .user(userRepository.getReferenceById(issued.userId()))
+                                .createdAt(LocalDateTime.now())
+                                .expiresAt(issued.expiresAt())
+                                // Revoked before its insert was flushed, e.g. an immediate logout
+                                .revoked(recent.containsKey(issued.jti()))
+                                .build())
+                        .toList());
+                refreshTokenRepository.flush();
+            }
+            if (!revocations.isEmpty()) {
+                jdbcTemplate.batchUpdate(REVOKE_SQL, revocations.stream()
+                        .map(entry -> new Object[]{entry.getValue().replacedBy(), entry.getKey()})
+                        .toList());
+            }
+        });
+    }
+
+    // Rows that keep failing are retried one by one so a single bad row cannot block every later batch
+    private void requeue(List<Issued> inserts, List<Map.Entry<String, Revocation>> revocations) {
+        for (Issued issued : inserts) {
+            if (issued.attempts() + 1 < maxFlushAttempts) {
+                pendingInserts.add(issued.retried());
+            } else {
+                writeAlone(List.of(issued), List.of());
+            }
+        }
+        for (Map.Entry<String, Revocation> entry : revocations) {
+            Revocation revocation = entry.getValue();
+            if (revocation.attempts() + 1 < maxFlushAttempts) {
+                pendingRevocations.putIfAbsent(entry.getKey(), revocation.retried());
+            } else if (!writeAlone(List.of(), List.of(entry))) {
+                unpersisted.put(entry.getKey(), revocation);
+            }
+        }
+    }
+
+    private boolean writeAlone(List<Issued> inserts, List<Map.Entry<String, Revocation>> revocations) {
+        try {
+            write(inserts, revocations);
+            return true;
+        } catch (RuntimeException ex) {
+            log.error("Dropping refresh token write for jti {} after {} attempts",
+                    inserts.isEmpty() ? revocations.get(0).getKey() : inserts.get(0).jti(), maxFlushAttempts, ex);
+            return false;
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${security.refresh-tokens.rebuild-ms:300000}",
+            fixedDelayString = "${security.refresh-tokens.rebuild-ms:300000}"
+    )
+    public void rebuild() {
+        // Held throughout so no flush can be between draining and committing while the table is read
+        flushLock.lock();
+        try {
+            boolean flushed = flushPending();
+            long cutoff = System.nanoTime();
+            Instant now = Instant.now();
+
+            List<String> jtis = refreshTokenRepository.findRevokedJtisExpiringAfter(now);
+            BloomFilter next = new BloomFilter(Math.max(1024, jtis.size() * 2L), falsePositiveRate);
+            jtis.forEach(next::add);
+            revoked = next;
+
+            unpersisted.entrySet().removeIf(entry -> entry.getValue().expiresAt().isBefore(now));
+            // Committed before the query ran, so the new filter covers them. After a failed flush
+            // some of them are only in memory, so only expired entries go.
+            recent.entrySet().removeIf(entry -> entry.getValue().expiresAt().isBefore(now)
+                    || (flushed
+                    && entry.getValue().recordedAtNanos() - cutoff < 0
+                    && !pendingRevocations.containsKey(entry.getKey())
+                    && !unpersisted.containsKey(entry.getKey())));
+
+            log.debug("Refresh token revocation filter rebuilt with {} entries, {} recent", jtis.size(), recent.size());
+        } catch (RuntimeException ex) {
+            log.error("Refresh token revocation filter rebuild failed, keeping the previous one", ex);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.refresh-tokens.purge-ms:3600000}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        int total = 0;
+        List<UUID> ids;
+        // Chunked so each delete is a short transaction
+        do {
+            ids = refreshTokenRepository.findExpiredIds(now, Limit.of(purgeChunk));
+            if (!ids.isEmpty()) {
+                refreshTokenRepository.deleteAllByIdInBatch(ids);
+                total += ids.size();
+            }
+        } while (ids.size() == purgeChunk);
+
+        if (total > 0) {
+            log.info("Purged {} expired refresh tokens", total);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
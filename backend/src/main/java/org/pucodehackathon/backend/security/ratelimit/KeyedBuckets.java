@@ -0,0 +1,74 @@
+package org.pucodehackathon.backend.security.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Buckets of one policy, spread over striped maps so eviction sweeps and size
+ * checks touch one small map at a time. Keys beyond a stripe's capacity share
+ * an overflow bucket, which bounds memory under key-spraying attacks.
+ */
+final class KeyedBuckets {
+
+    private final ConcurrentHashMap<String, TokenBucket>[] stripes;
+    private final int maxKeysPerStripe;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final TokenBucket overflow;
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    KeyedBuckets(int stripeCount, int maxKeysPerStripe, int capacity, long refillPeriodNanos, long nowNanos) {
+        this.stripes = new ConcurrentHashMap[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.maxKeysPerStripe = maxKeysPerStripe;
+        this.intervalNanos = Math.max(1, refillPeriodNanos / capacity);
+        this.burstNanos = intervalNanos * capacity;
+        this.overflow = new TokenBucket(nowNanos);
+    }
+
+    long tryAcquire(String key, long nowNanos) {
+        ConcurrentHashMap<String, TokenBucket> stripe = stripes[Math.floorMod(key.hashCode(), stripes.length)];
+        TokenBucket bucket = stripe.get(key);
+        if (bucket == null) {
+            bucket = stripe.size() < maxKeysPerStripe
+                    ? stripe.computeIfAbsent(key, k -> new TokenBucket(nowNanos))
+                    : overflow;
+        }
+        return bucket.tryAcquire(nowNanos, intervalNanos, burstNanos);
+    }
+
+    // Refunds a token from tryAcquire; a key that moved out of the overflow bucket meanwhile refunds its own
+    void release(String key, long nowNanos) {
+        TokenBucket bucket = stripes[Math.floorMod(key.hashCode(), stripes.length)].get(key);
+        (bucket != null ? bucket : overflow).release(nowNanos, intervalNanos);
+    }
+
+    // Drops buckets that have been full for at least idleNanos; they would start full anyway
+    void evictIdle(long nowNanos, long idleNanos) {
+        for (ConcurrentHashMap<String, TokenBucket> stripe : stripes) {
+            stripe.entrySet().removeIf(entry -> {
+                boolean idle = entry.getValue().isFull(nowNanos)
+                        && nowNanos - entry.getValue().idleSince() >= idleNanos;
+                if (idle) {
+                    evictions.increment();
+                }
+                return idle;
+            });
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, TokenBucket> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    double evictions() {
+        return evictions.sum();
+    }
+}
@@ -0,0 +1,220 @@
+package org.pucodehackathon.backend.security.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.pucodehackathon.backend.auth.dto.ApiError;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles the unauthenticated auth endpoints before they reach BCrypt or the
+ * mail outbox. Each configured policy owns its own buckets, keyed by client IP
+ * or by the email in the path, query or JSON body; a request is rejected with
+ * 429 and Retry-After as soon as any matching policy is out of tokens, and the
+ * tokens the other matching policies granted it are handed back.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final List<CompiledPolicy> policies = new ArrayList<>();
+
+    private record CompiledPolicy(
+            RateLimitProperties.Policy policy,
+            PathPattern pattern,
+            KeyedBuckets buckets,
+            Counter allowed,
+            Counter rejected
+    ) {
+    }
+
+    private record Charge(CompiledPolicy compiled, String key) {
+    }
+
+    @PostConstruct
+    void init() {
+        long now = System.nanoTime();
+        for (RateLimitProperties.Policy policy : properties.getPolicies()) {
+            KeyedBuckets buckets = new KeyedBuckets(
+                    properties.getStripes(),
+                    properties.getMaxKeysPerStripe(),
+                    policy.getCapacity(),
+                    policy.getRefillPeriod().toNanos(),
+                    now
+            );
+
+            Gauge.builder("rate.limit.keys", buckets, KeyedBuckets::size)
+                    .tag("policy", policy.getName())
+                    .register(meterRegistry);
+            FunctionCounter.builder("rate.limit.evictions", buckets, KeyedBuckets::evictions)
+                    .tag("policy", policy.getName())
+                    .register(meterRegistry);
+
+            policies.add(new CompiledPolicy(
+                    policy,
+                    PathPatternParser.defaultInstance.parse(policy.getPath()),
+                    buckets,
+                    meterRegistry.counter("rate.limit.requests", "policy", policy.getName(), "result", "allowed"),
+                    meterRegistry.counter("rate.limit.requests", "policy", policy.getName(), "result", "rejected")
+            ));
+        }
+        log.info("Rate limiting {} with {} policies", properties.isEnabled() ? "enabled" : "disabled", policies.size());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || policies.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        HttpServletRequest current = request;
+        long now = System.nanoTime();
+        long retryAfterNanos = 0;
+        List<Charge> charged = new ArrayList<>(policies.size());
+
+        for (CompiledPolicy compiled : policies) {
+            RateLimitProperties.Policy policy = compiled.policy();
+            if (!policy.getMethod().equalsIgnoreCase(request.getMethod())) {
+                continue;
+            }
+            PathPattern.PathMatchInfo match = compiled.pattern().matchAndExtract(path);
+            if (match == null) {
+                continue;
+            }
+
+            String key;
+            if (policy.getKey() == RateLimitProperties.KeyType.EMAIL) {
+                if (!(current instanceof CachedBodyRequest)) {
+                    current = cacheBody(current);
+                }
+                key = email(current, match);
+            } else {
+                key = clientIp(request);
+            }
+            if (key == null) {
+                continue;
+            }
+
+            long waitNanos = compiled.buckets().tryAcquire(key, now);
+            if (waitNanos > 0) {
+                compiled.rejected().increment();
+                retryAfterNanos = Math.max(retryAfterNanos, waitNanos);
+            } else {
+                charged.add(new Charge(compiled, key));
+            }
+        }
+
+        if (retryAfterNanos > 0) {
+            // A rejected request must not use up the policies it passed
+            for (Charge charge : charged) {
+                charge.compiled().buckets().release(charge.key(), now);
+            }
+            reject(request, response, retryAfterNanos);
+            return;
+        }
+        for (Charge charge : charged) {
+            charge.compiled().allowed().increment();
+        }
+
+        filterChain.doFilter(current, response);
+    }
+
+    @Scheduled(fixedDelayString = "${security.rate-limit.sweep-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        long idleNanos = properties.getIdleEviction().toNanos();
+        for (CompiledPolicy compiled : policies) {
+            compiled.buckets().evictIdle(now, idleNanos);
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long retryAfterNanos)
+            throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        ApiError error = ApiError.of(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                "Too many requests, retry in " + retryAfterSeconds + " seconds",
+                request.getRequestURI()
+        );
+        response.getWriter().write(objectMapper.writeValueAsString(error));
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (properties.isTrustForwardedFor()) {
+            String forwarded = request.getHeader("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isBlank()) {
+                int comma = forwarded.indexOf(',');
+                return (comma >= 0 ? forwarded.substring(0, comma) : forwarded).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    // Path variable, then query parameter, then the JSON body's email field
+    private String email(HttpServletRequest request, PathPattern.PathMatchInfo match) {
+        String email = match.getUriVariables().get("email");
+        if (email == null) {
+            email = request.getParameter("email");
+        }
+        if (email == null && request instanceof CachedBodyRequest cached && cached.body().length > 0) {
+            try {
+                Object value = objectMapper.readValue(cached.body(), Map.class).get("email");
+                email = value instanceof String s ? s : null;
+            } catch (RuntimeException ex) {
+                // Malformed JSON is the controller's problem; the IP policy still applies
+                log.debug("Rate limit could not read email from body: {}", ex.getMessage());
+            }
+        }
+        return email == null || email.isBlank() ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Only small JSON bodies with a declared length are buffered
+    private HttpServletRequest cacheBody(HttpServletRequest request) throws IOException {
+        long length = request.getContentLengthLong();
+        String contentType = request.getContentType();
+        if (length <= 0 || length > properties.getMaxBodyBytes()
+                || contentType == null || !contentType.toLowerCase(Locale.ROOT).contains("json")) {
+            return request;
+        }
+        return new CachedBodyRequest(request, request.getInputStream().readNBytes((int) length));
+    }
+}
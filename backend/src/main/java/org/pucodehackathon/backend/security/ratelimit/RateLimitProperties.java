@@ -0,0 +1,50 @@
+package org.pucodehackathon.backend.security.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "security.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Only honour X-Forwarded-For behind a trusted proxy, otherwise clients pick their own key
+    private boolean trustForwardedFor = false;
+
+    private int stripes = 16;
+
+    private int maxKeysPerStripe = 20_000;
+
+    private Duration idleEviction = Duration.ofMinutes(10);
+
+    private int maxBodyBytes = 8192;
+
+    private List<Policy> policies = new ArrayList<>();
+
+    @Data
+    public static class Policy {
+
+        private String name;
+
+        private String method = "POST";
+
+        private String path;
+
+        private KeyType key = KeyType.IP;
+
+        // Burst size; the bucket refills evenly to capacity over refillPeriod
+        private int capacity;
+
+        private Duration refillPeriod = Duration.ofMinutes(1);
+    }
+
+    public enum KeyType {
+        IP,
+        EMAIL
+    }
+}
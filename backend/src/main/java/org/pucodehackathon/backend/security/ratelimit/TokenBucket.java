@@ -0,0 +1,53 @@
+package org.pucodehackathon.backend.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its GCRA form: the whole state is one theoretical
+ * arrival time, advanced with a CAS per admitted request. A bucket whose
+ * arrival time is in the past is full.
+ */
+final class TokenBucket {
+
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long nowNanos) {
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    // 0 when admitted, otherwise nanos until a token is available
+    long tryAcquire(long nowNanos, long intervalNanos, long burstNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, nowNanos) + intervalNanos;
+            long waitNanos = next - nowNanos - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // Hands back a token taken by tryAcquire; a full bucket stays full
+    void release(long nowNanos, long intervalNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            if (tat - nowNanos <= 0) {
+                return;
+            }
+            if (theoreticalArrival.compareAndSet(tat, Math.max(tat - intervalNanos, nowNanos))) {
+                return;
+            }
+        }
+    }
+
+    boolean isFull(long nowNanos) {
+        return theoreticalArrival.get() - nowNanos <= 0;
+    }
+
+    long idleSince() {
+        return theoreticalArrival.get();
+    }
+}
@@ -0,0 +1,44 @@
+-- Adds the SRID 4326 point used by the nearby-vendor queries and backfills it
+-- from latitude/longitude. Every step is guarded so the script is a no-op on a
+-- fresh schema, where Hibernate creates vendor_location after Flyway has run
+-- (SpatialIndexInitializer adds the SPATIAL index in that case).
+
+SET @has_table := (SELECT COUNT(*) FROM information_schema.tables
+                   WHERE table_schema = DATABASE() AND table_name = 'vendor_location');
+
+SET @has_column := (SELECT COUNT(*) FROM information_schema.columns
+                    WHERE table_schema = DATABASE() AND table_name = 'vendor_location'
+                      AND column_name = 'geo_point');
+
+SET @ddl := IF(@has_table = 1 AND @has_column = 0,
+               'ALTER TABLE vendor_location ADD COLUMN geo_point POINT SRID 4326 NULL',
+               'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @dml := IF(@has_table = 1,
+               'UPDATE vendor_location SET geo_point = ST_SRID(POINT(longitude, latitude), 4326) WHERE geo_point IS NULL',
+               'DO 0');
+PREPARE stmt FROM @dml;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- A SPATIAL index requires a NOT NULL column
+SET @ddl := IF(@has_table = 1,
+               'ALTER TABLE vendor_location MODIFY COLUMN geo_point POINT SRID 4326 NOT NULL',
+               'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @has_index := (SELECT COUNT(*) FROM information_schema.statistics
+                   WHERE table_schema = DATABASE() AND table_name = 'vendor_location'
+                     AND index_name = 'idx_vendor_location_geo_point');
+
+SET @ddl := IF(@has_table = 1 AND @has_index = 0,
+               'CREATE SPATIAL INDEX idx_vendor_location_geo_point ON vendor_location (geo_point)',
+               'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
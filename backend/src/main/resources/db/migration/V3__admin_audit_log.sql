@@ -0,0 +1,24 @@
+-- Append-only log of admin actions, written in batches by AdminAuditLog.
+-- Partitioned by month so range queries prune to the months they cover and
+-- old months can be dropped whole. Every unique key of a partitioned table
+-- must contain the partition column, hence the (audit_id, ts) primary key.
+-- Only the catch-all partition is created here; AuditPartitionMaintainer
+-- splits monthly partitions off it ahead of time.
+
+CREATE TABLE IF NOT EXISTS admin_audit_log (
+    audit_id    BINARY(16)    NOT NULL,
+    ts          DATETIME(6)   NOT NULL,
+    actor_id    BINARY(16)    NULL,
+    actor_email VARCHAR(255)  NULL,
+    action      VARCHAR(64)   NOT NULL,
+    target_type VARCHAR(32)   NOT NULL,
+    target_id   BINARY(16)    NOT NULL,
+    reason      VARCHAR(1000) NULL,
+    PRIMARY KEY (audit_id, ts),
+    KEY idx_admin_audit_target_ts (target_id, ts, audit_id),
+    KEY idx_admin_audit_actor_ts (actor_id, ts, audit_id),
+    KEY idx_admin_audit_ts (ts, audit_id)
+)
+PARTITION BY RANGE (TO_DAYS(ts)) (
+    PARTITION p_max VALUES LESS THAN MAXVALUE
+);
@@ -0,0 +1,150 @@
+package org.pucodehackathon.backend.admin.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdminAuditLogTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AdminAuditLog auditLog;
+
+    @BeforeEach
+    void setUp() {
+        auditLog = new AdminAuditLog(jdbcTemplate, transactionTemplate, meterRegistry);
+        ReflectionTestUtils.setField(auditLog, "batchSize", 2);
+        ReflectionTestUtils.setField(auditLog, "maxQueued", 3);
+        auditLog.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void record_WhenTransactionRollsBack_ShouldWriteNothing() {
+        TransactionSynchronizationManager.initSynchronization();
+        auditLog.record(AdminAuditAction.VENDOR_APPROVED, "VENDOR", UUID.randomUUID(), null);
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        auditLog.flush();
+
+        verifyNoInteractions(transactionTemplate, jdbcTemplate);
+    }
+
+    @Test
+    void record_WhenTransactionCommits_ShouldWriteOnNextFlush() {
+        runTransactions();
+        TransactionSynchronizationManager.initSynchronization();
+        auditLog.record(AdminAuditAction.VENDOR_SUSPENDED, "VENDOR", UUID.randomUUID(), "fraud");
+        auditLog.flush();
+        verifyNoInteractions(jdbcTemplate);
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        auditLog.flush();
+
+        assertEquals(List.of(1), writtenBatchSizes());
+    }
+
+    @Test
+    void flush_WhenMoreThanBatchSizeQueued_ShouldWriteOneTransactionPerBatch() {
+        runTransactions();
+        for (int i = 0; i < 3; i++) {
+            auditLog.record(AdminAuditAction.VENDOR_ACTIVATED, "VENDOR", UUID.randomUUID(), null);
+        }
+
+        auditLog.flush();
+
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+        assertEquals(List.of(2, 1), writtenBatchSizes());
+    }
+
+    @Test
+    void record_WhenQueueFull_ShouldDropAndCountOverflow() {
+        runTransactions();
+        for (int i = 0; i < 5; i++) {
+            auditLog.record(AdminAuditAction.VENDOR_DEACTIVATED, "VENDOR", UUID.randomUUID(), null);
+        }
+
+        auditLog.flush();
+
+        assertEquals(List.of(2, 1), writtenBatchSizes());
+        assertEquals(2, meterRegistry.counter("admin.audit.dropped").count());
+    }
+
+    @Test
+    void flush_WhenWriteFails_ShouldKeepEntriesForTheNextTick() {
+        auditLog.record(AdminAuditAction.VENDOR_REJECTED, "VENDOR", UUID.randomUUID(), "incomplete");
+        doThrow(new DataAccessResourceFailureException("down"))
+                .when(transactionTemplate).executeWithoutResult(any());
+        auditLog.flush();
+
+        reset(transactionTemplate);
+        runTransactions();
+        auditLog.flush();
+
+        assertEquals(List.of(1), writtenBatchSizes());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Integer> writtenBatchSizes() {
+        ArgumentCaptor<Collection<Object>> batches = ArgumentCaptor.captor();
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(anyString(), batches.capture(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        return batches.getAllValues().stream().map(Collection::size).toList();
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactions() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+    }
+}
@@ -0,0 +1,87 @@
+package org.pucodehackathon.backend.admin.audit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditPartitionMaintainerTest {
+
+    private static final DateTimeFormatter NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private AuditPartitionMaintainer maintainer;
+
+    private final YearMonth current = YearMonth.now();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(maintainer, "monthsAhead", 1);
+    }
+
+    @Test
+    void maintain_WhenOnlyCatchAllExists_ShouldSplitEachMissingMonthOffPMax() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("p_max"));
+
+        maintainer.maintain();
+
+        verify(jdbcTemplate).execute(reorganize(current));
+        verify(jdbcTemplate).execute(reorganize(current.plusMonths(1)));
+        verify(jdbcTemplate, times(2)).execute(anyString());
+    }
+
+    @Test
+    void maintain_WhenMonthsAlreadySplit_ShouldNotTouchTheTable() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of(
+                current.format(NAME), current.plusMonths(1).format(NAME), "p_max"));
+
+        maintainer.maintain();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void maintain_WhenRetentionConfigured_ShouldDropOnlyExpiredMonths() {
+        ReflectionTestUtils.setField(maintainer, "retentionMonths", 2);
+        String expired = current.minusMonths(3).format(NAME);
+        String kept = current.minusMonths(2).format(NAME);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of(
+                expired, kept, current.format(NAME), current.plusMonths(1).format(NAME), "p_max"));
+
+        maintainer.maintain();
+
+        verify(jdbcTemplate).execute("ALTER TABLE admin_audit_log DROP PARTITION " + expired);
+        verify(jdbcTemplate, times(1)).execute(anyString());
+    }
+
+    @Test
+    void maintain_WhenTableNotPartitioned_ShouldSkip() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of());
+
+        maintainer.maintain();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    private static String reorganize(YearMonth month) {
+        return "ALTER TABLE admin_audit_log REORGANIZE PARTITION p_max INTO ("
+                + "PARTITION " + month.format(NAME) + " VALUES LESS THAN (TO_DAYS('" + month.plusMonths(1).atDay(1) + "')), "
+                + "PARTITION p_max VALUES LESS THAN MAXVALUE)";
+    }
+}
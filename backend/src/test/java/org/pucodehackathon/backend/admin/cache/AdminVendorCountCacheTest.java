@@ -0,0 +1,56 @@
+package org.pucodehackathon.backend.admin.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.pucodehackathon.backend.vendor.model.VerificationStatus;
+import org.pucodehackathon.backend.vendor.repositories.VendorRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdminVendorCountCacheTest {
+
+    @Mock
+    private VendorRepository vendorRepository;
+
+    @InjectMocks
+    private AdminVendorCountCache countCache;
+
+    @Test
+    void count_WhenFiltersAreNull_ShouldSumMatchingBuckets() {
+        when(vendorRepository.countByStatusAndActive()).thenReturn(List.of(
+                new Object[]{VerificationStatus.APPROVED, true, 7L},
+                new Object[]{VerificationStatus.APPROVED, false, 2L},
+                new Object[]{VerificationStatus.PENDING, false, 5L}
+        ));
+
+        countCache.recount();
+
+        assertTrue(countCache.isReady());
+        assertEquals(14, countCache.count(null, null));
+        assertEquals(9, countCache.count(VerificationStatus.APPROVED, null));
+        assertEquals(7, countCache.count(null, true));
+        assertEquals(0, countCache.count(VerificationStatus.SUSPENDED, false));
+    }
+
+    @Test
+    void moved_WhenVendorSuspended_ShouldShiftCountBetweenBuckets() {
+        when(vendorRepository.countByStatusAndActive()).thenReturn(List.<Object[]>of(
+                new Object[]{VerificationStatus.APPROVED, true, 3L}
+        ));
+        countCache.recount();
+
+        countCache.moved(VerificationStatus.APPROVED, true, VerificationStatus.SUSPENDED, false);
+        countCache.added(VerificationStatus.PENDING, false);
+
+        assertEquals(2, countCache.count(VerificationStatus.APPROVED, true));
+        assertEquals(1, countCache.count(VerificationStatus.SUSPENDED, false));
+        assertEquals(4, countCache.count(null, null));
+    }
+}
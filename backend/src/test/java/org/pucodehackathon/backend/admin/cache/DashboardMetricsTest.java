@@ -0,0 +1,183 @@
+package org.pucodehackathon.backend.admin.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.pucodehackathon.backend.order.model.Order;
+import org.pucodehackathon.backend.order.model.OrderStatus;
+import org.pucodehackathon.backend.vendor.model.Vendor;
+import org.pucodehackathon.backend.vendor.model.VendorLocation;
+import org.pucodehackathon.backend.vendor.repositories.VendorLocationRepository;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardMetricsTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private VendorLocationRepository locationRepository;
+
+    @InjectMocks
+    private DashboardMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(metrics, "zoneId", "Asia/Kolkata");
+        metrics.init();
+    }
+
+    @Test
+    void orderMoved_WhenOrderCompleted_ShouldShiftStatusTotalsAndCountCityAndDay() {
+        UUID vendorId = UUID.randomUUID();
+        when(locationRepository.findByVendor_VendorId(vendorId)).thenReturn(List.of(
+                VendorLocation.builder().city(" Pune ").isPrimary(true).build()
+        ));
+        Order order = new Order();
+        order.setVendor(Vendor.builder().vendorId(vendorId).build());
+        order.setTotalAmount(new BigDecimal("120.50"));
+
+        metrics.orderPlaced(order);
+        order.setStatus(OrderStatus.COMPLETED);
+        metrics.orderMoved(order, OrderStatus.PLACED);
+
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Kolkata"));
+        assertEquals(0, metrics.get("status.PLACED.count"));
+        assertEquals(1, metrics.get("status.COMPLETED.count"));
+        assertEquals(12050, metrics.get("status.COMPLETED.gmv"));
+        assertEquals(1, metrics.get(DashboardMetrics.dayKey(today, DashboardMetrics.PLACED, "count")));
+        assertEquals(12050, metrics.get(DashboardMetrics.cityKey("Pune", DashboardMetrics.COMPLETED, "gmv")));
+    }
+
+    @Test
+    void segments_WhenCityOnlyCountedLocally_ShouldIncludeIt() {
+        UUID vendorId = UUID.randomUUID();
+        when(locationRepository.findByVendor_VendorId(vendorId)).thenReturn(List.of(
+                VendorLocation.builder().city("Nagpur").isPrimary(true).build()
+        ));
+
+        metrics.orderPlaced(order(vendorId, "10.00"));
+
+        assertEquals(List.of("Nagpur"), metrics.segments("city."));
+    }
+
+    @Test
+    void vendorLocationChanged_WhenCityCached_ShouldLookItUpAgain() {
+        UUID vendorId = UUID.randomUUID();
+        when(locationRepository.findByVendor_VendorId(vendorId)).thenReturn(
+                List.of(VendorLocation.builder().city("Pune").isPrimary(true).build()),
+                List.of(VendorLocation.builder().city("Mumbai").isPrimary(true).build())
+        );
+
+        metrics.orderPlaced(order(vendorId, "10.00"));
+        metrics.vendorLocationChanged(vendorId);
+        metrics.orderPlaced(order(vendorId, "10.00"));
+
+        assertEquals(1, metrics.get(DashboardMetrics.cityKey("Pune", DashboardMetrics.PLACED, "count")));
+        assertEquals(1, metrics.get(DashboardMetrics.cityKey("Mumbai", DashboardMetrics.PLACED, "count")));
+    }
+
+    @Test
+    void flush_WhenBatchFails_ShouldKeepDeltasForTheNextTick() {
+        UUID vendorId = UUID.randomUUID();
+        when(locationRepository.findByVendor_VendorId(vendorId)).thenReturn(List.of());
+        metrics.orderPlaced(order(vendorId, "10.00"));
+        doThrow(new DataAccessResourceFailureException("down"))
+                .when(transactionTemplate).executeWithoutResult(any());
+
+        metrics.flush();
+
+        assertEquals(1, metrics.get("status.PLACED.count"));
+        verify(jdbcTemplate, never()).query(anyString(), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    void reconcileStatuses_WhenStatusDeltasPending_ShouldDropThemAndOverwriteWithCountedOrders() {
+        UUID vendorId = UUID.randomUUID();
+        when(locationRepository.findByVendor_VendorId(vendorId)).thenReturn(List.of());
+        metrics.orderPlaced(order(vendorId, "10.00"));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        metrics.reconcileStatuses();
+
+        ArgumentCaptor<List<Object[]>> counted = ArgumentCaptor.captor();
+        verify(jdbcTemplate).batchUpdate(contains("metric_value = counted.metric_value"), counted.capture());
+        assertEquals(OrderStatus.values().length * 2, counted.getValue().size());
+        // The count already covers the placed order, so only its day and city deltas are added on top
+        ArgumentCaptor<List<Object[]>> added = ArgumentCaptor.captor();
+        verify(jdbcTemplate).batchUpdate(contains("dashboard_snapshot.metric_value + delta.metric_value"),
+                added.capture());
+        assertEquals(4, added.getValue().size());
+        assertTrue(added.getValue().stream().noneMatch(row -> ((String) row[0]).startsWith("status.")));
+        assertEquals(0, metrics.get("status.PLACED.count"));
+    }
+
+    @Test
+    void reconcileStatuses_WhenCountFails_ShouldKeepStatusDeltas() {
+        UUID vendorId = UUID.randomUUID();
+        when(locationRepository.findByVendor_VendorId(vendorId)).thenReturn(List.of());
+        metrics.orderPlaced(order(vendorId, "10.00"));
+        doThrow(new DataAccessResourceFailureException("down"))
+                .when(jdbcTemplate).query(contains("GROUP BY status"), any(RowCallbackHandler.class));
+
+        metrics.reconcileStatuses();
+
+        assertEquals(1, metrics.get("status.PLACED.count"));
+        assertEquals(1000, metrics.get("status.PLACED.gmv"));
+    }
+
+    @Test
+    void load_WhenSnapshotExistsAndReconcileOff_ShouldNotCountOrders() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class))).thenReturn(12);
+
+        metrics.load();
+
+        verify(jdbcTemplate, never()).query(contains("FROM orders"), any(RowCallbackHandler.class));
+        verify(jdbcTemplate).query(contains("FROM dashboard_snapshot"), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    void today_ShouldFollowTheConfiguredZone() {
+        ReflectionTestUtils.setField(metrics, "zoneId", "Pacific/Kiritimati");
+        metrics.init();
+
+        assertEquals(LocalDate.now(ZoneId.of("Pacific/Kiritimati")), metrics.today());
+    }
+
+    private static Order order(UUID vendorId, String total) {
+        Order order = new Order();
+        order.setVendor(Vendor.builder().vendorId(vendorId).build());
+        order.setTotalAmount(new BigDecimal(total));
+        return order;
+    }
+}
@@ -0,0 +1,95 @@
+package org.pucodehackathon.backend.admin.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.pucodehackathon.backend.admin.audit.AdminAuditAction;
+import org.pucodehackathon.backend.admin.dto.AdminAuditEntryDto;
+import org.pucodehackathon.backend.helper.CursorPage;
+import org.pucodehackathon.backend.helper.KeysetCursor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdminAuditServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private AdminAuditServiceImpl auditService;
+
+    private String sql;
+    private List<Object> args;
+
+    @Test
+    void search_WhenCursorGiven_ShouldSeekStrictlyAfterItNewestFirst() {
+        KeysetCursor after = new KeysetCursor(LocalDateTime.of(2026, 5, 1, 10, 0), UUID.randomUUID());
+        UUID targetId = UUID.randomUUID();
+        answerWith(List.of());
+
+        auditService.search(targetId, null, AdminAuditAction.VENDOR_SUSPENDED, null, null, after.encode(), 20);
+
+        assertTrue(sql.contains(" AND target_id = UUID_TO_BIN(?) AND action = ?"));
+        assertTrue(sql.contains(" AND (ts < ? OR (ts = ? AND audit_id < UUID_TO_BIN(?)))"));
+        assertTrue(sql.endsWith(" ORDER BY ts DESC, audit_id DESC LIMIT ?"));
+        Timestamp ts = Timestamp.valueOf(after.createdAt());
+        assertEquals(List.of(targetId.toString(), "VENDOR_SUSPENDED", ts, ts, after.id().toString(), 21), args);
+    }
+
+    @Test
+    void search_WhenMoreRowsThanPageSize_ShouldReturnCursorOfLastRowShown() {
+        List<AdminAuditEntryDto> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            rows.add(AdminAuditEntryDto.builder()
+                    .auditId(UUID.randomUUID())
+                    .timestamp(LocalDateTime.of(2026, 5, 1, 10, 0).minusMinutes(i))
+                    .build());
+        }
+        answerWith(rows);
+
+        CursorPage<AdminAuditEntryDto> page = auditService.search(null, null, null, null, null, null, 2);
+
+        assertFalse(sql.contains("ts < ?"));
+        assertEquals(List.of(3), args);
+        assertTrue(page.isHasMore());
+        assertEquals(2, page.getItems().size());
+        KeysetCursor next = KeysetCursor.decode(page.getNextCursor());
+        assertEquals(rows.get(1).getAuditId(), next.id());
+        assertEquals(rows.get(1).getTimestamp(), next.createdAt());
+    }
+
+    @Test
+    void search_WhenLastPage_ShouldHaveNoCursor() {
+        answerWith(List.of());
+
+        CursorPage<AdminAuditEntryDto> page = auditService.search(null, null, null, null, null, null, 10);
+
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void answerWith(List<AdminAuditEntryDto> rows) {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenAnswer(invocation -> {
+            Object[] all = invocation.getArguments();
+            sql = (String) all[0];
+            args = Arrays.asList(all).subList(2, all.length);
+            return rows;
+        });
+    }
+}
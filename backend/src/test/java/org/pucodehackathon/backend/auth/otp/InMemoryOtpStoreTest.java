@@ -0,0 +1,61 @@
+package org.pucodehackathon.backend.auth.otp;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryOtpStoreTest {
+
+    private InMemoryOtpStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryOtpStore();
+        ReflectionTestUtils.setField(store, "maxAttempts", 3);
+        ReflectionTestUtils.setField(store, "wheelSlots", 8);
+        store.init();
+    }
+
+    @Test
+    void verify_WhenCodeMatches_ShouldSucceedOnlyOnce() {
+        store.put("a@example.com", "123456", Duration.ofMinutes(5));
+
+        assertTrue(store.verify("a@example.com", "123456"));
+        assertFalse(store.verify("a@example.com", "123456"));
+    }
+
+    @Test
+    void verify_WhenTooManyWrongGuesses_ShouldBurnCode() {
+        store.put("a@example.com", "123456", Duration.ofMinutes(5));
+
+        assertFalse(store.verify("a@example.com", "000000"));
+        assertFalse(store.verify("a@example.com", "111111"));
+        assertFalse(store.verify("a@example.com", "222222"));
+
+        assertFalse(store.verify("a@example.com", "123456"));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void put_WhenCodeReissued_ShouldInvalidatePreviousCode() {
+        store.put("a@example.com", "123456", Duration.ofMinutes(5));
+        store.put("a@example.com", "654321", Duration.ofMinutes(5));
+
+        assertFalse(store.verify("a@example.com", "123456"));
+        assertTrue(store.verify("a@example.com", "654321"));
+    }
+
+    @Test
+    void advance_WhenDeadlinePassed_ShouldEvictEntry() throws InterruptedException {
+        store.put("a@example.com", "123456", Duration.ofMillis(10));
+
+        Thread.sleep(1100);
+        store.advance();
+
+        assertEquals(0, store.size());
+    }
+}
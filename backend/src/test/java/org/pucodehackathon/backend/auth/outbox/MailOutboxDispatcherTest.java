@@ -0,0 +1,139 @@
+package org.pucodehackathon.backend.auth.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxDispatcherTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    private MailOutboxDispatcher dispatcher;
+
+    private final UUID mailId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new MailOutboxDispatcher(jdbcTemplate, transactionTemplate, mailSender, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(dispatcher, "enabled", true);
+        ReflectionTestUtils.setField(dispatcher, "threads", 1);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 20);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 2);
+        ReflectionTestUtils.setField(dispatcher, "backoffBaseSeconds", 30L);
+        ReflectionTestUtils.setField(dispatcher, "backoffMaxSeconds", 1800L);
+        ReflectionTestUtils.setField(dispatcher, "leaseSeconds", 120L);
+        ReflectionTestUtils.setField(dispatcher, "retentionDays", 7L);
+        ReflectionTestUtils.setField(dispatcher, "purgeChunk", 1000);
+        dispatcher.init();
+    }
+
+    @Test
+    void poll_WhenMailDelivered_ShouldMarkSentAndClearBody() throws Exception {
+        claimOnce(0);
+
+        dispatcher.poll();
+        dispatcher.shutdown();
+
+        List<Object[]> rows = updatesMatching("status = 'SENT'");
+        assertEquals(mailId.toString(), rows.get(0)[1]);
+        verify(jdbcTemplate).batchUpdate(contains("body = ''"), anyList());
+    }
+
+    @Test
+    void poll_WhenLastAttemptFails_ShouldParkAsFailedAndClearBody() throws Exception {
+        claimOnce(1);
+        doAnswer(invocation -> {
+            SimpleMailMessage message = invocation.getArgument(0);
+            throw new MailSendException(Map.of(message, new RuntimeException("550 mailbox unavailable")));
+        }).when(mailSender).send(any(SimpleMailMessage[].class));
+
+        dispatcher.poll();
+        dispatcher.shutdown();
+
+        List<Object[]> rows = updatesMatching("status = 'FAILED'");
+        assertEquals("550 mailbox unavailable", rows.get(0)[1]);
+        assertEquals(mailId.toString(), rows.get(0)[2]);
+        verify(jdbcTemplate, never()).batchUpdate(contains("status = 'PENDING'"), anyList());
+    }
+
+    @Test
+    void poll_WhenAttemptsLeft_ShouldRescheduleAndKeepBody() throws Exception {
+        claimOnce(0);
+        doThrow(new MailSendException("connection refused")).when(mailSender).send(any(SimpleMailMessage[].class));
+
+        dispatcher.poll();
+        dispatcher.shutdown();
+
+        List<Object[]> rows = updatesMatching("status = 'PENDING'");
+        assertEquals(mailId.toString(), rows.get(0)[2]);
+        verify(jdbcTemplate, never()).batchUpdate(contains("status = 'FAILED'"), anyList());
+    }
+
+    @Test
+    void purge_WhenRetentionPassed_ShouldDeleteSentAndFailedRows() {
+        dispatcher.purge();
+
+        verify(jdbcTemplate).update(contains("status = 'SENT' AND sent_at < ?"), any(Timestamp.class), eq(1000));
+        verify(jdbcTemplate).update(contains("status = 'FAILED' AND next_attempt_at < ?"), any(Timestamp.class), eq(1000));
+    }
+
+    // One due row on the first claim, nothing after; attempts is the stored count before this lease
+    @SuppressWarnings("unchecked")
+    private void claimOnce(int attempts) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("id")).thenReturn(mailId.toString());
+        when(rs.getString("recipient")).thenReturn("user@example.com");
+        when(rs.getString("subject")).thenReturn("Your OTP");
+        when(rs.getString("body")).thenReturn("Your OTP is 123456");
+        when(rs.getInt("attempts")).thenReturn(attempts);
+
+        AtomicBoolean claimed = new AtomicBoolean();
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenAnswer(invocation ->
+                claimed.getAndSet(true)
+                        ? List.of()
+                        : List.of(invocation.<RowMapper<Object>>getArgument(1).mapRow(rs, 0)));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+    }
+
+    private List<Object[]> updatesMatching(String sql) {
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.captor();
+        verify(jdbcTemplate).batchUpdate(contains(sql), rows.capture());
+        return rows.getValue();
+    }
+}
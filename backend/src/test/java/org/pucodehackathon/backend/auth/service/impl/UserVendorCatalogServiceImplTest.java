@@ -0,0 +1,115 @@
+package org.pucodehackathon.backend.auth.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.pucodehackathon.backend.product.cache.VendorCatalogCache;
+import org.pucodehackathon.backend.product.model.Category;
+import org.pucodehackathon.backend.product.repositories.CategoryRepository;
+import org.pucodehackathon.backend.product.repositories.ProductRepository;
+import org.pucodehackathon.backend.vendor.model.Vendor;
+import org.pucodehackathon.backend.vendor.model.VendorType;
+import org.pucodehackathon.backend.vendor.model.VerificationStatus;
+import org.pucodehackathon.backend.vendor.repositories.VendorRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import tools.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserVendorCatalogServiceImplTest {
+
+    @Mock
+    private VendorRepository vendorRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private VendorCatalogCache catalogCache;
+
+    private UserVendorCatalogServiceImpl catalogService;
+
+    private final UUID vendorId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        catalogCache = new VendorCatalogCache();
+        ReflectionTestUtils.setField(catalogCache, "maxVendors", 10);
+        catalogService = new UserVendorCatalogServiceImpl(
+                vendorRepository, categoryRepository, productRepository, catalogCache, objectMapper, transactionManager);
+        catalogService.init();
+    }
+
+    @Test
+    void getVendorCatalogSnapshot_WhenNotCached_ShouldBuildInOneReadOnlyTransactionAndCache() {
+        stubCatalog();
+
+        VendorCatalogCache.CatalogSnapshot snapshot = catalogService.getVendorCatalogSnapshot(vendorId);
+
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(transactionManager).commit(any());
+        assertSame(snapshot, catalogCache.get(vendorId));
+    }
+
+    @Test
+    void getVendorCatalogSnapshot_WhenCatalogWrittenDuringBuild_ShouldServeButNotCache() {
+        stubCatalog();
+        when(categoryRepository.findByVendor_VendorIdAndIsActiveTrue(vendorId)).thenAnswer(invocation -> {
+            catalogCache.bump(vendorId);
+            return List.of(Category.builder().categoryId(UUID.randomUUID()).name("Snacks").build());
+        });
+
+        VendorCatalogCache.CatalogSnapshot snapshot = catalogService.getVendorCatalogSnapshot(vendorId);
+
+        assertNotNull(snapshot);
+        assertNull(catalogCache.get(vendorId));
+    }
+
+    @Test
+    void getVendorCatalogSnapshot_WhenCached_ShouldNotOpenTransaction() {
+        VendorCatalogCache.CatalogSnapshot cached =
+                catalogCache.put(vendorId, catalogCache.version(vendorId), "{}".getBytes(StandardCharsets.UTF_8));
+
+        assertSame(cached, catalogService.getVendorCatalogSnapshot(vendorId));
+
+        verifyNoInteractions(transactionManager, vendorRepository);
+    }
+
+    private void stubCatalog() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(vendorRepository.findByVendorId(vendorId)).thenReturn(Optional.of(Vendor.builder()
+                .vendorId(vendorId)
+                .businessName("Chaat Corner")
+                .vendorType(VendorType.FIXED)
+                .verificationStatus(VerificationStatus.APPROVED)
+                .isActive(true)
+                .ratingAvg(BigDecimal.ZERO)
+                .build()));
+        lenient().when(categoryRepository.findByVendor_VendorIdAndIsActiveTrue(vendorId)).thenReturn(List.of());
+        when(productRepository.findByVendor_VendorIdAndIsAvailableTrue(vendorId)).thenReturn(List.of());
+        when(objectMapper.writeValueAsBytes(any())).thenReturn("{}".getBytes(StandardCharsets.UTF_8));
+    }
+}
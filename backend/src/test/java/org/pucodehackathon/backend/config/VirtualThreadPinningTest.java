@@ -0,0 +1,98 @@
+package org.pucodehackathon.backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.pucodehackathon.backend.auth.otp.InMemoryOtpStore;
+import org.pucodehackathon.backend.security.BoundedPasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the shared in-memory components from many virtual threads under a JFR
+ * recording and fails if any of our frames shows up in a jdk.VirtualThreadPinned
+ * event, i.e. a virtual thread blocked while holding its carrier.
+ */
+class VirtualThreadPinningTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void sharedComponents_WhenUsedFromVirtualThreads_ShouldNotPinCarriers() throws Exception {
+        InMemoryOtpStore otpStore = new InMemoryOtpStore();
+        ReflectionTestUtils.setField(otpStore, "maxAttempts", 5);
+        ReflectionTestUtils.setField(otpStore, "wheelSlots", 16);
+        otpStore.init();
+
+        BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(4), 2, 1000, Duration.ofSeconds(30), 1, new SimpleMeterRegistry());
+        String hash = passwordEncoder.encode("secret");
+
+        Path dump = tempDir.resolve("pinning.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+
+            try (ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<Void>> tasks = new ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                    String email = "user" + (i % 20) + "@example.com";
+                    tasks.add(virtual.submit(() -> {
+                        otpStore.put(email, "123456", Duration.ofMinutes(5));
+                        otpStore.verify(email, "000000");
+                        otpStore.advance();
+                        // Parks on the hashing pool's future
+                        assertTrue(passwordEncoder.matches("secret", hash));
+                        return null;
+                    }));
+                }
+                // Surfaces any assertion or exception thrown inside a task
+                for (Future<Void> task : tasks) {
+                    task.get(60, TimeUnit.SECONDS);
+                }
+            }
+
+            recording.stop();
+            recording.dump(dump);
+        } finally {
+            passwordEncoder.shutdown();
+        }
+
+        List<String> pinnedAt = RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> event.getEventType().getName().equals("jdk.VirtualThreadPinned"))
+                .map(VirtualThreadPinningTest::firstOwnFrame)
+                .filter(frame -> frame != null)
+                .toList();
+
+        assertEquals(List.of(), pinnedAt);
+    }
+
+    private static String firstOwnFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return null;
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith("org.pucodehackathon.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return null;
+    }
+}
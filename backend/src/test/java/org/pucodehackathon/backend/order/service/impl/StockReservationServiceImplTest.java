@@ -0,0 +1,138 @@
+package org.pucodehackathon.backend.order.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.pucodehackathon.backend.order.model.OrderItem;
+import org.pucodehackathon.backend.product.model.Product;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StockReservationServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Savepoint savepoint;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private StockReservationServiceImpl stockReservationService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reserve_WhenProductRepeated_ShouldMergeQuantitiesInProductIdOrder() {
+        Product low = product(new UUID(0, 1), "Tea");
+        Product high = product(new UUID(0, 2), "Samosa");
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 1});
+
+        stockReservationService.reserve(List.of(item(high, 1), item(low, 2), item(high, 3)));
+
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), args.capture());
+        assertEquals(2, args.getValue().size());
+        assertArrayEquals(new Object[]{2, low.getProductId().toString(), 2}, args.getValue().get(0));
+        assertArrayEquals(new Object[]{4, high.getProductId().toString(), 4}, args.getValue().get(1));
+    }
+
+    @Test
+    void reserve_WhenAnyRowNotUpdated_ShouldThrowWithProductName() {
+        Product tea = product(new UUID(0, 1), "Tea");
+        Product samosa = product(new UUID(0, 2), "Samosa");
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 0});
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> stockReservationService.reserve(List.of(item(tea, 1), item(samosa, 5))));
+
+        assertEquals("Insufficient stock for product: Samosa", ex.getMessage());
+    }
+
+    @Test
+    void reserve_WhenRowReportsMoreThanOneUpdate_ShouldThrow() {
+        Product tea = product(new UUID(0, 1), "Tea");
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{2});
+
+        assertThrows(IllegalStateException.class,
+                () -> stockReservationService.reserve(List.of(item(tea, 1))));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reserve_WhenDriverReportsNoInfo_ShouldUndoBatchAndReserveRowByRow() throws Exception {
+        Product tea = product(new UUID(0, 1), "Tea");
+        Product samosa = product(new UUID(0, 2), "Samosa");
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+        when(connection.setSavepoint()).thenReturn(savepoint);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenReturn(new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO});
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(1, 0);
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> stockReservationService.reserve(List.of(item(tea, 1), item(samosa, 5))));
+
+        assertEquals("Insufficient stock for product: Samosa", ex.getMessage());
+        verify(connection).rollback(savepoint);
+        verify(jdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void reserve_WhenStockShort_ShouldRollBackTheCallersTransaction() {
+        Product tea = product(new UUID(0, 1), "Tea");
+        Product samosa = product(new UUID(0, 2), "Samosa");
+        TransactionStatus status = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 0});
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(
+                tx -> stockReservationService.reserve(List.of(item(tea, 1), item(samosa, 5)))));
+
+        // Tea's decrement already ran; only the rollback undoes it
+        verify(transactionManager).rollback(status);
+        verify(transactionManager, never()).commit(any());
+    }
+
+    private static Product product(UUID productId, String name) {
+        Product product = new Product();
+        product.setProductId(productId);
+        product.setName(name);
+        return product;
+    }
+
+    private static OrderItem item(Product product, int quantity) {
+        OrderItem item = new OrderItem();
+        item.setProduct(product);
+        item.setQuantity(quantity);
+        return item;
+    }
+}
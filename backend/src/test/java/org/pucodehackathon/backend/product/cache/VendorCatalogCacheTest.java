@@ -0,0 +1,61 @@
+package org.pucodehackathon.backend.product.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VendorCatalogCacheTest {
+
+    private VendorCatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VendorCatalogCache();
+        ReflectionTestUtils.setField(cache, "maxVendors", 2);
+    }
+
+    @Test
+    void version_WhenVendorNeverWritten_ShouldNotCreateEntry() {
+        assertEquals(0L, cache.version(UUID.randomUUID()));
+        assertNull(cache.get(UUID.randomUUID()));
+
+        assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(cache, "versions")).isEmpty());
+    }
+
+    @Test
+    void put_WhenVersionBumpedWhileBuilding_ShouldNotStoreSnapshot() {
+        UUID vendorId = UUID.randomUUID();
+        long version = cache.version(vendorId);
+
+        cache.bump(vendorId);
+        cache.put(vendorId, version, body("stale"));
+
+        assertNull(cache.get(vendorId));
+    }
+
+    @Test
+    void put_WhenFull_ShouldEvictLeastRecentlyUsed() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        cache.put(first, 0L, body("first"));
+        cache.put(second, 0L, body("second"));
+        assertNotNull(cache.get(first));
+
+        cache.put(third, 0L, body("third"));
+
+        assertNotNull(cache.get(first));
+        assertNull(cache.get(second));
+        assertNotNull(cache.get(third));
+    }
+
+    private static byte[] body(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
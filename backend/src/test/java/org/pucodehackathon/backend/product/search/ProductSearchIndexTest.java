@@ -0,0 +1,137 @@
+package org.pucodehackathon.backend.product.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.pucodehackathon.backend.product.model.Category;
+import org.pucodehackathon.backend.product.model.Product;
+import org.pucodehackathon.backend.product.repositories.ProductRepository;
+import org.pucodehackathon.backend.vendor.model.Vendor;
+import org.pucodehackathon.backend.vendor.repositories.VendorRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private VendorRepository vendorRepository;
+
+    private ProductSearchIndex searchIndex;
+
+    private final Vendor tikkaHouse = vendor("Tikka House");
+    private final Vendor rollCorner = vendor("Roll Corner");
+    private final Vendor chaiPoint = vendor("Chai Point");
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new ProductSearchIndex(productRepository, vendorRepository);
+        ReflectionTestUtils.setField(searchIndex, "k1", 1.2);
+        ReflectionTestUtils.setField(searchIndex, "b", 0.75);
+        ReflectionTestUtils.setField(searchIndex, "nameWeight", 3.0f);
+        ReflectionTestUtils.setField(searchIndex, "categoryWeight", 1.5f);
+        ReflectionTestUtils.setField(searchIndex, "vendorWeight", 1.5f);
+        ReflectionTestUtils.setField(searchIndex, "descriptionWeight", 1.0f);
+
+        when(vendorRepository.findByIsActiveTrue()).thenReturn(List.of(tikkaHouse, rollCorner, chaiPoint));
+        when(productRepository.findSearchable()).thenReturn(List.of(
+                product(tikkaHouse, "Paneer", "Grilled cottage cheese"),
+                product(tikkaHouse, "Paneer Butter Masala Special Thali", "Rice, dal and roti"),
+                product(rollCorner, "Veg Roll", "Comes with a little paneer"),
+                product(rollCorner, "Egg Roll", "Two eggs, onion and sauce")
+        ));
+        searchIndex.load();
+    }
+
+    @Test
+    void search_WhenTermInNameAndDescription_ShouldRankByFieldWeightAndLength() {
+        List<ProductSearchIndex.Hit> hits = searchIndex.search("paneer", inRange(tikkaHouse, rollCorner), 10);
+
+        assertEquals(List.of("Paneer", "Paneer Butter Masala Special Thali", "Veg Roll"),
+                hits.stream().map(ProductSearchIndex.Hit::productName).toList());
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+        assertTrue(hits.get(1).score() > hits.get(2).score());
+    }
+
+    @Test
+    void search_WhenVendorOutsideRadius_ShouldNotScoreItsDocuments() {
+        List<ProductSearchIndex.Hit> hits = searchIndex.search("paneer", inRange(rollCorner), 10);
+
+        assertEquals(1, hits.size());
+        assertEquals(rollCorner.getVendorId(), hits.get(0).vendorId());
+        assertTrue(searchIndex.search("paneer", Map.of(), 10).isEmpty());
+    }
+
+    @Test
+    void search_WhenVendorHasNoProducts_ShouldFindItByName() {
+        List<ProductSearchIndex.Hit> hits = searchIndex.search("chai", inRange(chaiPoint, rollCorner), 10);
+
+        assertEquals(1, hits.size());
+        assertEquals(ProductSearchIndex.DocType.VENDOR, hits.get(0).type());
+        assertEquals("Chai Point", hits.get(0).vendorName());
+    }
+
+    @Test
+    void refresh_WhenVendorDeactivated_ShouldDropAllItsDocuments() {
+        rollCorner.setIsActive(false);
+        when(vendorRepository.findById(rollCorner.getVendorId())).thenReturn(Optional.of(rollCorner));
+
+        searchIndex.refresh(rollCorner.getVendorId());
+
+        assertTrue(searchIndex.search("roll", inRange(rollCorner), 10).isEmpty());
+    }
+
+    @Test
+    void refresh_WhenVendorRenamed_ShouldMatchTheNewName() {
+        chaiPoint.setBusinessName("Kulhad Corner");
+        when(vendorRepository.findById(chaiPoint.getVendorId())).thenReturn(Optional.of(chaiPoint));
+        when(productRepository.findSearchableByVendor(chaiPoint.getVendorId())).thenReturn(List.of());
+
+        searchIndex.refresh(chaiPoint.getVendorId());
+
+        assertTrue(searchIndex.search("chai", inRange(chaiPoint), 10).isEmpty());
+        assertEquals(1, searchIndex.search("kulhad", inRange(chaiPoint), 10).size());
+    }
+
+    private static Map<UUID, Boolean> inRange(Vendor... vendors) {
+        Map<UUID, Boolean> range = new HashMap<>();
+        for (Vendor vendor : vendors) {
+            range.put(vendor.getVendorId(), true);
+        }
+        return range;
+    }
+
+    private static Vendor vendor(String name) {
+        return Vendor.builder()
+                .vendorId(UUID.randomUUID())
+                .businessName(name)
+                .isActive(true)
+                .build();
+    }
+
+    private static Product product(Vendor vendor, String name, String description) {
+        return Product.builder()
+                .productId(UUID.randomUUID())
+                .vendor(vendor)
+                .category(Category.builder().name("Snacks").build())
+                .name(name)
+                .description(description)
+                .price(new BigDecimal("50.00"))
+                .isAvailable(true)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package org.pucodehackathon.backend.product.search;
+
+import org.junit.jupiter.api.Test;
+import org.pucodehackathon.backend.product.repositories.ProductRepository;
+import org.pucodehackathon.backend.product.search.SuggestIndex.Suggestion;
+import org.pucodehackathon.backend.product.search.SuggestIndex.Type;
+import org.pucodehackathon.backend.vendor.index.VendorGeoIndex;
+import org.pucodehackathon.backend.vendor.model.Vendor;
+import org.pucodehackathon.backend.vendor.model.VendorType;
+import org.pucodehackathon.backend.vendor.repositories.VendorRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SuggestIndexTest {
+
+    private static final Suggestion PANI_PURI = new Suggestion("Pani Puri", Type.PRODUCT, null, 5);
+    private static final Suggestion PANEER_TIKKA = new Suggestion("Paneer Tikka", Type.PRODUCT, null, 3);
+    private static final Suggestion CHAAT = new Suggestion("Chaat", Type.CATEGORY, null, 4);
+    private static final Suggestion SHARMA = new Suggestion("Sharma Chaat Corner", Type.VENDOR, UUID.randomUUID(), 2);
+
+    private final SuggestIndex.Trie trie = SuggestIndex.Trie.build(List.of(PANI_PURI, PANEER_TIKKA, CHAAT, SHARMA), 8);
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final VendorRepository vendorRepository = mock(VendorRepository.class);
+
+    @Test
+    void lookup_WhenPrefixMatchesSeveralNames_ShouldRankByWeight() {
+        assertEquals(List.of(PANI_PURI, PANEER_TIKKA), trie.lookup("pan"));
+        assertEquals(List.of(CHAAT, SHARMA), trie.lookup("Chaat"));
+    }
+
+    @Test
+    void lookup_WhenPrefixStartsMidName_ShouldMatchFromWordStart() {
+        assertEquals(List.of(PANEER_TIKKA), trie.lookup("tik"));
+        assertEquals(List.of(SHARMA), trie.lookup("  chaat   co"));
+        assertEquals(List.of(SHARMA), trie.lookup("sharma-chaat"));
+    }
+
+    @Test
+    void lookup_WhenNothingMatches_ShouldReturnEmpty() {
+        assertTrue(trie.lookup("xyz").isEmpty());
+        assertTrue(trie.lookup("  ").isEmpty());
+        assertTrue(SuggestIndex.Trie.EMPTY.lookup("pan").isEmpty());
+    }
+
+    @Test
+    void build_WhenMoreMatchesThanTopK_ShouldKeepBest() {
+        SuggestIndex.Trie small = SuggestIndex.Trie.build(List.of(PANI_PURI, PANEER_TIKKA), 1);
+
+        assertEquals(List.of(PANI_PURI), small.lookup("pa"));
+        assertEquals(List.of(PANEER_TIKKA), small.lookup("pane"));
+    }
+
+    @Test
+    void load_WhenVendorHasNoProducts_ShouldStillSuggestItsName() {
+        Vendor vendor = vendor("Kulhad Corner");
+        SuggestIndex index = index(vendor);
+
+        List<Suggestion> suggestions = index.suggest("kul", 30.7333, 76.7794);
+
+        assertEquals(1, suggestions.size());
+        assertEquals(Type.VENDOR, suggestions.get(0).type());
+        assertEquals(vendor.getVendorId(), suggestions.get(0).vendorId());
+    }
+
+    @Test
+    void refresh_WhenVendorDeactivated_ShouldStopSuggestingIt() {
+        Vendor vendor = vendor("Kulhad Corner");
+        SuggestIndex index = index(vendor);
+        vendor.setIsActive(false);
+        when(vendorRepository.findById(vendor.getVendorId())).thenReturn(Optional.of(vendor));
+
+        index.refresh(vendor.getVendorId());
+        index.rebuildIfStale();
+
+        assertTrue(index.suggest("kul", 30.7333, 76.7794).isEmpty());
+    }
+
+    @Test
+    void refresh_WhenVendorRenamed_ShouldSuggestTheNewName() {
+        Vendor vendor = vendor("Kulhad Corner");
+        SuggestIndex index = index(vendor);
+        vendor.setBusinessName("Chai Adda");
+        when(vendorRepository.findById(vendor.getVendorId())).thenReturn(Optional.of(vendor));
+        when(productRepository.findSearchableByVendor(vendor.getVendorId())).thenReturn(List.of());
+
+        index.refresh(vendor.getVendorId());
+        index.rebuildIfStale();
+
+        assertTrue(index.suggest("kul", 30.7333, 76.7794).isEmpty());
+        assertEquals("Chai Adda", index.suggest("chai", 30.7333, 76.7794).get(0).text());
+    }
+
+    // One active vendor at the given origin, loaded into the suggest index
+    private SuggestIndex index(Vendor vendor) {
+        VendorGeoIndex geoIndex = mock(VendorGeoIndex.class);
+        when(geoIndex.isReady()).thenReturn(true);
+        when(geoIndex.get(vendor.getVendorId())).thenReturn(new VendorGeoIndex.Entry(
+                vendor.getVendorId(), vendor.getBusinessName(), "FIXED", 30.7333, 76.7794, false, 0, 0, 0));
+
+        SuggestIndex index = new SuggestIndex(productRepository, vendorRepository, geoIndex);
+        ReflectionTestUtils.setField(index, "topK", 8);
+        ReflectionTestUtils.setField(index, "cellSizeDegrees", 0.1);
+        ReflectionTestUtils.setField(index, "neighborhoodKm", 10.0);
+        ReflectionTestUtils.setField(index, "maxAgeMs", 60000L);
+        index.init();
+        when(productRepository.findSearchable()).thenReturn(List.of());
+        when(vendorRepository.findByIsActiveTrue()).thenReturn(List.of(vendor));
+        index.load();
+        return index;
+    }
+
+    private static Vendor vendor(String name) {
+        return Vendor.builder()
+                .vendorId(UUID.randomUUID())
+                .businessName(name)
+                .vendorType(VendorType.FIXED)
+                .isActive(true)
+                .build();
+    }
+}
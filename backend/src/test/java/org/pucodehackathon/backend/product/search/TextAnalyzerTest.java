@@ -0,0 +1,26 @@
+package org.pucodehackathon.backend.product.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextAnalyzerTest {
+
+    @Test
+    void analyze_WhenSameDishSpelledDifferently_ShouldProduceSameTerms() {
+        assertEquals(TextAnalyzer.analyze("Paneer Tikka"), TextAnalyzer.analyze("panir tikkas"));
+        assertEquals(TextAnalyzer.analyze("samosa"), TextAnalyzer.analyze("Samose"));
+        assertEquals(TextAnalyzer.analyze("pakoda"), TextAnalyzer.analyze("pakora"));
+        assertEquals(TextAnalyzer.analyze("chai"), TextAnalyzer.analyze("chay"));
+        assertEquals(TextAnalyzer.analyze("Bhaji"), TextAnalyzer.analyze("bajji"));
+        assertEquals(TextAnalyzer.analyze("aloo paratha"), TextAnalyzer.analyze("Aalu Parathe"));
+    }
+
+    @Test
+    void analyze_WhenTextHasStopWordsAndPunctuation_ShouldKeepOnlyContentTerms() {
+        assertEquals(List.of("masala", "dosa", "chutni"), TextAnalyzer.analyze("Masala dosa, with chutney!"));
+        assertEquals(List.of("chola", "batura"), TextAnalyzer.analyze("chole aur bhature"));
+    }
+}
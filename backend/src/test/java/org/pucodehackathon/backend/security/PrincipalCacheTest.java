@@ -0,0 +1,95 @@
+package org.pucodehackathon.backend.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pucodehackathon.backend.auth.model.User;
+import org.pucodehackathon.backend.helper.UserPrincipal;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrincipalCacheTest {
+
+    private final UUID userId = UUID.randomUUID();
+
+    private PrincipalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PrincipalCache();
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void put_WhenGenerationCurrent_ShouldCachePrincipal() {
+        UserPrincipal principal = principal();
+
+        cache.put(userId, cache.generation(userId), principal);
+
+        assertSame(principal, cache.get(userId));
+    }
+
+    @Test
+    void put_WhenLoadRacedAdminChangeAndLandsAfterCommit_ShouldNotCacheStaleRow() {
+        // Admin transaction disables the user; the immediate evict runs before commit
+        TransactionSynchronizationManager.initSynchronization();
+        cache.evict(userId);
+
+        // A request reads the generation and the still-committed old row
+        long generation = cache.generation(userId);
+        UserPrincipal stale = principal();
+
+        commit();
+        cache.put(userId, generation, stale);
+
+        assertNull(cache.get(userId));
+    }
+
+    @Test
+    void put_WhenLoadRacedAdminChangeAndLandsBeforeCommit_ShouldBeEvictedOnCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.evict(userId);
+        cache.put(userId, cache.generation(userId), principal());
+        assertNotNull(cache.get(userId));
+
+        commit();
+
+        assertNull(cache.get(userId));
+    }
+
+    @Test
+    void put_WhenEvictedWithoutTransaction_ShouldRejectOlderGeneration() {
+        long generation = cache.generation(userId);
+        cache.evict(userId);
+
+        cache.put(userId, generation, principal());
+
+        assertNull(cache.get(userId));
+        assertEquals(generation + 1, cache.generation(userId));
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private UserPrincipal principal() {
+        return new UserPrincipal(User.builder().id(userId).email("user@example.com").build());
+    }
+}
@@ -0,0 +1,120 @@
+package org.pucodehackathon.backend.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.pucodehackathon.backend.auth.model.RefreshToken;
+import org.pucodehackathon.backend.auth.repositories.RefreshTokenRepository;
+import org.pucodehackathon.backend.auth.repositories.UserRepository;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenRegistryTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private RefreshTokenRegistry registry;
+
+    private final Instant expiresAt = Instant.now().plusSeconds(3600);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(registry, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.setField(registry, "maxFlushAttempts", 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void revokeNow_WhenIssueNotFlushedYet_ShouldInsertRevokedRowBeforeUpdate() {
+        runTransactions();
+        registry.issue(UUID.randomUUID(), "jti-1", expiresAt);
+
+        registry.revokeNow("jti-1", expiresAt);
+        registry.flush();
+        when(refreshTokenRepository.findRevokedJtisExpiringAfter(any())).thenReturn(List.of("jti-1"));
+        when(refreshTokenRepository.existsByJtiAndRevokedTrue("jti-1")).thenReturn(true);
+        registry.rebuild();
+
+        ArgumentCaptor<Iterable<RefreshToken>> saved = ArgumentCaptor.forClass(Iterable.class);
+        InOrder order = inOrder(refreshTokenRepository, jdbcTemplate);
+        order.verify(refreshTokenRepository).saveAll(saved.capture());
+        order.verify(jdbcTemplate).update(anyString(), isNull(), eq("jti-1"));
+        RefreshToken token = saved.getValue().iterator().next();
+        assertEquals("jti-1", token.getJti());
+        assertTrue(token.isRevoked());
+        verify(refreshTokenRepository, times(1)).saveAll(any());
+        assertTrue(registry.isRevoked("jti-1"));
+    }
+
+    @Test
+    void rebuild_WhenFlushFails_ShouldKeepUnwrittenRevocationsInMemory() {
+        failTransactions();
+        assertTrue(registry.tryRevoke("jti-2", "jti-3", expiresAt));
+        when(refreshTokenRepository.findRevokedJtisExpiringAfter(any())).thenReturn(List.of());
+
+        registry.rebuild();
+
+        assertTrue(registry.isRevoked("jti-2"));
+    }
+
+    @Test
+    void flush_WhenRowKeepsFailing_ShouldDropItAfterMaxAttempts() {
+        failTransactions();
+        registry.issue(UUID.randomUUID(), "jti-4", expiresAt);
+
+        registry.flush();
+        registry.flush();
+        registry.flush();
+
+        // Two batch attempts, one attempt on its own, then nothing left to retry
+        verify(transactionTemplate, times(3)).executeWithoutResult(any());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactions() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void failTransactions() {
+        doThrow(new DataAccessResourceFailureException("down"))
+                .when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+    }
+}
@@ -0,0 +1,52 @@
+package org.pucodehackathon.backend.security.ratelimit;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CachedBodyRequestTest {
+
+    private final byte[] body = "{\"email\":\"a@b.c\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void setReadListener_WhenBodyCached_ShouldSignalDataThenCompletion() throws IOException {
+        ServletInputStream in = new CachedBodyRequest(new MockHttpServletRequest(), body).getInputStream();
+        ReadListener listener = mock(ReadListener.class);
+
+        in.setReadListener(listener);
+
+        var order = inOrder(listener);
+        order.verify(listener).onDataAvailable();
+        order.verify(listener).onAllDataRead();
+        verify(listener, never()).onError(any());
+    }
+
+    @Test
+    void setReadListener_WhenListenerThrows_ShouldRouteToOnError() throws IOException {
+        ServletInputStream in = new CachedBodyRequest(new MockHttpServletRequest(), body).getInputStream();
+        ReadListener listener = mock(ReadListener.class);
+        IOException failure = new IOException("boom");
+        doThrow(failure).when(listener).onDataAvailable();
+
+        in.setReadListener(listener);
+
+        verify(listener).onError(failure);
+        verify(listener, never()).onAllDataRead();
+    }
+
+    @Test
+    void getInputStream_WhenRead_ShouldReplayWholeBody() throws IOException {
+        ServletInputStream in = new CachedBodyRequest(new MockHttpServletRequest(), body).getInputStream();
+
+        assertArrayEquals(body, in.readAllBytes());
+        assertTrue(in.isFinished());
+    }
+}
@@ -0,0 +1,72 @@
+package org.pucodehackathon.backend.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyedBucketsTest {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    void tryAcquire_WhenBurstExhausted_ShouldReturnWaitUntilNextToken() {
+        KeyedBuckets buckets = new KeyedBuckets(4, 100, 3, MINUTE, 0);
+
+        assertEquals(0, buckets.tryAcquire("1.2.3.4", 0));
+        assertEquals(0, buckets.tryAcquire("1.2.3.4", 0));
+        assertEquals(0, buckets.tryAcquire("1.2.3.4", 0));
+
+        assertEquals(MINUTE / 3, buckets.tryAcquire("1.2.3.4", 0));
+        assertEquals(0, buckets.tryAcquire("5.6.7.8", 0));
+        assertEquals(0, buckets.tryAcquire("1.2.3.4", MINUTE / 3));
+    }
+
+    @Test
+    void tryAcquire_WhenStripeFull_ShouldShareOverflowBucket() {
+        KeyedBuckets buckets = new KeyedBuckets(1, 1, 1, MINUTE, 0);
+
+        assertEquals(0, buckets.tryAcquire("a", 0));
+        assertEquals(0, buckets.tryAcquire("b", 0));
+        assertTrue(buckets.tryAcquire("c", 0) > 0);
+        assertEquals(1, buckets.size());
+    }
+
+    @Test
+    void release_WhenTokenTaken_ShouldHandItBack() {
+        KeyedBuckets buckets = new KeyedBuckets(4, 100, 2, MINUTE, 0);
+        buckets.tryAcquire("1.2.3.4", 0);
+        buckets.tryAcquire("1.2.3.4", 0);
+
+        buckets.release("1.2.3.4", 0);
+
+        assertEquals(0, buckets.tryAcquire("1.2.3.4", 0));
+        assertTrue(buckets.tryAcquire("1.2.3.4", 0) > 0);
+    }
+
+    @Test
+    void release_WhenBucketAlreadyFull_ShouldNotRaiseTheBurst() {
+        KeyedBuckets buckets = new KeyedBuckets(4, 100, 1, MINUTE, 0);
+        buckets.tryAcquire("1.2.3.4", 0);
+
+        buckets.release("1.2.3.4", 0);
+        buckets.release("1.2.3.4", 0);
+
+        assertEquals(0, buckets.tryAcquire("1.2.3.4", 0));
+        assertTrue(buckets.tryAcquire("1.2.3.4", 0) > 0);
+    }
+
+    @Test
+    void evictIdle_WhenBucketRefilledAndIdle_ShouldDropIt() {
+        KeyedBuckets buckets = new KeyedBuckets(2, 100, 2, MINUTE, 0);
+        buckets.tryAcquire("a", 0);
+
+        buckets.evictIdle(MINUTE / 4, MINUTE);
+        assertEquals(1, buckets.size());
+
+        buckets.evictIdle(2 * MINUTE, MINUTE);
+        assertEquals(0, buckets.size());
+        assertEquals(1.0, buckets.evictions());
+    }
+}
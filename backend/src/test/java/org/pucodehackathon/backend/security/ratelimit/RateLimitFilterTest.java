@@ -0,0 +1,75 @@
+package org.pucodehackathon.backend.security.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPolicies(List.of(
+                policy("login-ip", RateLimitProperties.KeyType.IP, 2),
+                policy("login-email", RateLimitProperties.KeyType.EMAIL, 1)
+        ));
+        filter = new RateLimitFilter(properties, JsonMapper.builder().build(), meterRegistry);
+        filter.init();
+    }
+
+    @Test
+    void doFilter_WhenOnePolicyRejects_ShouldRefundThePoliciesThatPassed() throws Exception {
+        assertEquals(200, login("asha@example.com").getStatus());
+
+        MockHttpServletResponse rejected = login("asha@example.com");
+        assertEquals(429, rejected.getStatus());
+        assertNotNull(rejected.getHeader("Retry-After"));
+
+        // The IP bucket still has the token the rejected request took back
+        assertEquals(200, login("ravi@example.com").getStatus());
+        assertEquals(429, login("meena@example.com").getStatus());
+    }
+
+    @Test
+    void doFilter_WhenRejected_ShouldNotCountThePassedPoliciesAsAllowed() throws Exception {
+        login("asha@example.com");
+        login("asha@example.com");
+
+        assertEquals(1.0, meterRegistry.counter("rate.limit.requests",
+                "policy", "login-ip", "result", "allowed").count());
+        assertEquals(1.0, meterRegistry.counter("rate.limit.requests",
+                "policy", "login-email", "result", "rejected").count());
+    }
+
+    private MockHttpServletResponse login(String email) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.setRemoteAddr("10.0.0.7");
+        request.setContentType("application/json");
+        request.setContent(("{\"email\":\"" + email + "\"}").getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static RateLimitProperties.Policy policy(String name, RateLimitProperties.KeyType key, int capacity) {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setName(name);
+        policy.setPath("/api/v1/auth/login");
+        policy.setKey(key);
+        policy.setCapacity(capacity);
+        return policy;
+    }
+}